@@ -0,0 +1,82 @@
+package othello.benchmarks;
+
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.HumanPlayer;
+import othello.gamelogic.Player;
+
+/**
+ * The fixed positions every benchmark runs on. They were reached by random play from the starting
+ * position and are stored as text, so they stay the same when the engine changes.
+ * Black is to move in all of them, and both sides have a legal move.
+ */
+public enum BenchmarkPosition {
+    /** 44 empty squares. */
+    OPENING(
+            "-W------" +
+            "-W---W--" +
+            "BBB-WBB-" +
+            "-WBWWB--" +
+            "---BB---" +
+            "---BB---" +
+            "--BW----" +
+            "--------"),
+    /** 24 empty squares. */
+    MIDGAME(
+            "---W-W--" +
+            "---W-W--" +
+            "-WWWWWWW" +
+            "B--WWW--" +
+            "WBWWBW--" +
+            "-WBBBBWB" +
+            "WWWWB-BB" +
+            "--W-WBBB"),
+    /** 12 empty squares. */
+    ENDGAME(
+            "-WBBBBBB" +
+            "-WWBBBBB" +
+            "WWBWWBWB" +
+            "-WBBWWWB" +
+            "-WWBWWBB" +
+            "-W-BWBWW" +
+            "--BBWWWW" +
+            "---BWW-W");
+
+    private static final int SIZE = 8;
+
+    // One character per square, row by row: 'B' black, 'W' white, '-' empty
+    private final String layout;
+
+    BenchmarkPosition(String layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Builds a new board holding this position.
+     *
+     * @return a fresh board, safe to modify
+     */
+    public BoardSpace[][] board() {
+        BoardSpace[][] board = new BoardSpace[SIZE][SIZE];
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                char c = layout.charAt(x * SIZE + y);
+                BoardSpace.SpaceType type = c == 'B' ? BoardSpace.SpaceType.BLACK
+                        : c == 'W' ? BoardSpace.SpaceType.WHITE : BoardSpace.SpaceType.EMPTY;
+                board[x][y] = new BoardSpace(x, y, type);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Creates a player for one side of the benchmark positions.
+     *
+     * @param color the color of the player
+     * @return a player with that color
+     */
+    public static Player player(BoardSpace.SpaceType color) {
+        Player player = new HumanPlayer();
+        player.setColor(color);
+        return player;
+    }
+}
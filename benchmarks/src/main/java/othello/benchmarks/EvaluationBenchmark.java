@@ -0,0 +1,67 @@
+package othello.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+
+/**
+ * Measures the weighted evaluation used at the leaves of the alpha-beta searches,
+ * including the conversion from the board that every search does once at the root.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    public BenchmarkPosition position;
+
+    private BoardSpace[][] board;
+    private long player;
+    private long opponent;
+
+    /**
+     * Builds the board and the bitboards of the position.
+     */
+    @Setup
+    public void setUp() {
+        board = position.board();
+        player = Bitboard.mask(board, BoardSpace.SpaceType.BLACK);
+        opponent = Bitboard.mask(board, BoardSpace.SpaceType.WHITE);
+    }
+
+    /**
+     * The evaluation of a position held as bitboards.
+     *
+     * @return the score
+     */
+    @Benchmark
+    public int evaluate() {
+        return Bitboard.evaluate(player, opponent);
+    }
+
+    /**
+     * Reading the bitboards from the board and evaluating them.
+     *
+     * @return the score
+     */
+    @Benchmark
+    public int evaluateBoard() {
+        return Bitboard.evaluate(Bitboard.mask(board, BoardSpace.SpaceType.BLACK),
+                Bitboard.mask(board, BoardSpace.SpaceType.WHITE));
+    }
+}
@@ -0,0 +1,82 @@
+package othello.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.Player;
+
+/**
+ * Measures move generation: the map-based {@link Player#getAvailableMoves(BoardSpace[][])}
+ * used by the GUI, the move mask and square list built from the board, and the raw bitboard generator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    public BenchmarkPosition position;
+
+    private BoardSpace[][] board;
+    private Player black;
+    private long player;
+    private long opponent;
+    private final int[] moves = new int[Bitboard.NUM_SQUARES];
+
+    /**
+     * Builds the board and the bitboards of the position.
+     */
+    @Setup
+    public void setUp() {
+        board = position.board();
+        black = BenchmarkPosition.player(BoardSpace.SpaceType.BLACK);
+        player = Bitboard.mask(board, BoardSpace.SpaceType.BLACK);
+        opponent = Bitboard.mask(board, BoardSpace.SpaceType.WHITE);
+    }
+
+    /**
+     * The map of destinations to origins.
+     *
+     * @return the available moves
+     */
+    @Benchmark
+    public Map<BoardSpace, List<BoardSpace>> availableMovesMap() {
+        return black.getAvailableMoves(board);
+    }
+
+    /**
+     * The legal moves as square indices, read from the board.
+     *
+     * @return the number of moves
+     */
+    @Benchmark
+    public int availableMovesSquares() {
+        return black.getAvailableMoves(board, moves);
+    }
+
+    /**
+     * The legal moves of a position already held as bitboards.
+     *
+     * @return the move mask
+     */
+    @Benchmark
+    public long bitboardLegalMoves() {
+        return Bitboard.legalMoves(player, opponent);
+    }
+}
@@ -0,0 +1,57 @@
+package othello.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.RandomPlayout;
+
+/**
+ * Measures the random playouts of the MCTS simulation step, reported as playouts per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark {
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    public BenchmarkPosition position;
+
+    private RandomPlayout engine;
+    private long player;
+    private long opponent;
+
+    /**
+     * Builds the bitboards of the position and a seeded playout engine.
+     */
+    @Setup
+    public void setUp() {
+        BoardSpace[][] board = position.board();
+        player = Bitboard.mask(board, BoardSpace.SpaceType.BLACK);
+        opponent = Bitboard.mask(board, BoardSpace.SpaceType.WHITE);
+        engine = new RandomPlayout(5940);
+    }
+
+    /**
+     * One random game from the position to the end.
+     *
+     * @return the final disc difference
+     */
+    @Benchmark
+    public int playout() {
+        return engine.play(player, opponent);
+    }
+}
@@ -0,0 +1,82 @@
+package othello.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.CustomStrategy;
+import othello.gamelogic.MCTSStrategy;
+import othello.gamelogic.MinimaxStrategy;
+import othello.gamelogic.Player;
+import othello.gamelogic.Strategy;
+
+/**
+ * Measures a full {@link Strategy#selectMove(BoardSpace[][], Player, Player)} call of each strategy
+ * with its default settings, as the GUI makes it for a computer player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    @Param({"minimax", "mcts", "custom"})
+    public String strategy;
+
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    public BenchmarkPosition position;
+
+    private Strategy search;
+    private BoardSpace[][] board;
+    private Player black;
+    private Player white;
+
+    /**
+     * Creates the strategy and the position.
+     */
+    @Setup
+    public void setUp() {
+        search = switch (strategy) {
+            case "minimax" -> new MinimaxStrategy();
+            case "mcts" -> new MCTSStrategy();
+            case "custom" -> new CustomStrategy();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+        board = position.board();
+        black = BenchmarkPosition.player(BoardSpace.SpaceType.BLACK);
+        white = BenchmarkPosition.player(BoardSpace.SpaceType.WHITE);
+    }
+
+    /**
+     * Empties the transposition table of the custom strategy, so every call searches from scratch
+     * instead of reading back the result of the previous call.
+     */
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        if (search instanceof CustomStrategy custom) {
+            custom.getTranspositionTable().clear();
+        }
+    }
+
+    /**
+     * One move decision. The board is never changed by the strategies, so it is reused.
+     *
+     * @return the chosen move
+     */
+    @Benchmark
+    public BoardSpace selectMove() {
+        return search.selectMove(board, black, white);
+    }
+}
@@ -0,0 +1,128 @@
+package othello.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.OthelloGame;
+import othello.gamelogic.Player;
+
+/**
+ * Measures playing a move on the game board, with the origin lists of the GUI path
+ * and with a square index, plus the same move on bitboards.
+ *
+ * <p>A move changes its board, and a single move is too short to time on its own, so the board benchmarks
+ * run as single shots: before every iteration {@value #BATCH} fresh games of the position are set up,
+ * outside of the measured time, and the shot plays the move once in each of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TakeSpacesBenchmark {
+    @Param({"OPENING", "MIDGAME", "ENDGAME"})
+    public BenchmarkPosition position;
+
+    // The number of moves played by one shot of the board benchmarks
+    static final int BATCH = 4096;
+
+    private Player black;
+    private Player white;
+    private final OthelloGame[] games = new OthelloGame[BATCH];
+    private final List<Map<BoardSpace, List<BoardSpace>>> availableMoves = new ArrayList<>();
+    private final BoardSpace[] moves = new BoardSpace[BATCH];
+    private int square;
+    private long player;
+    private long opponent;
+
+    /**
+     * Picks the first legal move of the position.
+     */
+    @Setup
+    public void setUp() {
+        black = BenchmarkPosition.player(BoardSpace.SpaceType.BLACK);
+        white = BenchmarkPosition.player(BoardSpace.SpaceType.WHITE);
+        BoardSpace[][] board = position.board();
+        player = Bitboard.mask(board, BoardSpace.SpaceType.BLACK);
+        opponent = Bitboard.mask(board, BoardSpace.SpaceType.WHITE);
+        square = Long.numberOfTrailingZeros(Bitboard.legalMoves(player, opponent));
+    }
+
+    /**
+     * Puts a fresh copy of the position in every game of the batch, since every shot changes them.
+     */
+    @Setup(Level.Iteration)
+    public void resetGames() {
+        availableMoves.clear();
+        for (int i = 0; i < BATCH; i++) {
+            BoardSpace[][] board = position.board();
+            games[i] = new OthelloGame(black, white);
+            games[i].setBoard(board);
+            availableMoves.add(black.getAvailableMoves(board));
+            moves[i] = board[Bitboard.row(square)][Bitboard.col(square)];
+        }
+    }
+
+    /**
+     * The move played with the origin lists from the available moves map, once in every game of the batch.
+     *
+     * @return the last board after the move
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(BATCH)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 50)
+    public BoardSpace[][] takeSpacesWithOrigins() {
+        for (int i = 0; i < BATCH; i++) {
+            games[i].takeSpaces(black, white, availableMoves.get(i), moves[i]);
+        }
+        return games[BATCH - 1].getBoard();
+    }
+
+    /**
+     * The move played from its square index, once in every game of the batch.
+     *
+     * @return the flipped discs, combined over the batch
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(BATCH)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 50)
+    public long takeSpacesBySquare() {
+        long flipped = 0;
+        for (int i = 0; i < BATCH; i++) {
+            flipped ^= games[i].takeSpaces(black, white, square);
+        }
+        return flipped;
+    }
+
+    /**
+     * The flips of the move computed on bitboards, without touching any board.
+     *
+     * @return the flipped discs
+     */
+    @Benchmark
+    public long bitboardFlips() {
+        return Bitboard.flips(player, opponent, square);
+    }
+}
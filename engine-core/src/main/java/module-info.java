@@ -0,0 +1,4 @@
+module othello.engine {
+    exports othello.gamelogic;
+    exports othello.tournament;
+}
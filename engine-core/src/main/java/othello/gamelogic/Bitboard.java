@@ -0,0 +1,496 @@
+package othello.gamelogic;
+
+import java.util.SplittableRandom;
+
+import static othello.gamelogic.OthelloGame.GAME_BOARD_SIZE;
+
+/**
+ * Bitboard representation of an Othello position.
+ * The position is stored as two 64-bit masks, one for the player to move and one for the opponent.
+ * Square (x, y) of a {@code BoardSpace[][]} board maps to bit {@code x * 8 + y}.
+ *
+ * <p>Move generation and flip computation are done with shifts on whole masks, so the static
+ * helpers in this class never allocate and can be called from the inner loop of a search.
+ * A Bitboard instance can also be searched in place with {@link #makeMove(int)} and
+ * {@link #undoMove()}, which record the flipped discs in a preallocated per-ply undo stack.
+ *
+ * <p>Each Bitboard also keeps a Zobrist hash of its position, updated incrementally by every
+ * move, pass and undo. The hash is relative to the side to move (it hashes "discs of the player
+ * to move" and "discs of the opponent"), which is all a transposition table needs because the
+ * rules and the evaluation are the same for both colors.
+ */
+public class Bitboard {
+    /** Number of squares on the board. */
+    public static final int NUM_SQUARES = GAME_BOARD_SIZE * GAME_BOARD_SIZE;
+
+    // Every square except the first column (y == 0) and the last column (y == 7)
+    private static final long NOT_FIRST_COL = 0xFEFEFEFEFEFEFEFEL;
+    private static final long NOT_LAST_COL = 0x7F7F7F7F7F7F7F7FL;
+
+    // The 8 directions are handled as shifts: 8 (rows), 1 (columns), 9 and 7 (diagonals),
+    // each to the left and to the right. For shifts that move discs across columns, the discs
+    // are masked so that they do not wrap around from one row to the next.
+
+    /** Maximum number of moves (including passes) that can be made before undoing. */
+    public static final int MAX_PLY = 128;
+    /** Move value recorded in the undo stack for a pass. */
+    public static final int PASS = -1;
+
+    /** Constants.BOARD_WEIGHTS flattened to square indices. */
+    private static final int[] SQUARE_WEIGHTS = new int[NUM_SQUARES];
+
+    // Zobrist keys for a disc of the player to move and for a disc of the opponent on each square
+    private static final long[] PLAYER_KEYS = new long[NUM_SQUARES];
+    private static final long[] OPPONENT_KEYS = new long[NUM_SQUARES];
+
+    static {
+        // Fixed seed, so hashes are the same on every run
+        SplittableRandom keyRand = new SplittableRandom(5940L);
+        for (int sq = 0; sq < NUM_SQUARES; sq++) {
+            SQUARE_WEIGHTS[sq] = Constants.BOARD_WEIGHTS[row(sq)][col(sq)];
+            PLAYER_KEYS[sq] = keyRand.nextLong();
+            OPPONENT_KEYS[sq] = keyRand.nextLong();
+        }
+    }
+
+    private long player;
+    private long opponent;
+    // Hash of the position, and hash of the same discs with the sides swapped (the hash after a pass)
+    private long hash;
+    private long swappedHash;
+
+    // Undo stack: the move, flipped discs and hashes of each ply, allocated once per Bitboard
+    private final int[] moveStack = new int[MAX_PLY];
+    private final long[] flipStack = new long[MAX_PLY];
+    private final long[] hashStack = new long[MAX_PLY];
+    private final long[] swappedHashStack = new long[MAX_PLY];
+    private int ply;
+
+    /**
+     * Constructs a bitboard from the masks of the player to move and the opponent.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     */
+    public Bitboard(long player, long opponent) {
+        setPosition(player, opponent);
+    }
+
+    /**
+     * Constructs a bitboard from an 8x8 board, seen from the given color.
+     *
+     * @param board       the board to convert
+     * @param playerColor the color of the player to move
+     * @param opponentColor the color of the opponent
+     */
+    public Bitboard(BoardSpace[][] board, BoardSpace.SpaceType playerColor, BoardSpace.SpaceType opponentColor) {
+        this(mask(board, playerColor), mask(board, opponentColor));
+    }
+
+    /**
+     * Copy constructor for Bitboard. Copies the position but starts with an empty undo stack.
+     *
+     * @param other the Bitboard to copy
+     */
+    public Bitboard(Bitboard other) {
+        this(other.player, other.opponent);
+    }
+
+    /**
+     * Replaces the position and clears the undo stack, so the same Bitboard can be reused between searches.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     */
+    public void setPosition(long player, long opponent) {
+        this.player = player;
+        this.opponent = opponent;
+        this.hash = hash(player, opponent);
+        this.swappedHash = hash(opponent, player);
+        this.ply = 0;
+    }
+
+    /**
+     * Returns the discs of the player to move.
+     *
+     * @return the player mask
+     */
+    public long getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the discs of the opponent.
+     *
+     * @return the opponent mask
+     */
+    public long getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Returns the Zobrist hash of the position, relative to the side to move.
+     *
+     * @return the 64-bit hash key
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns the legal moves of the player to move.
+     *
+     * @return a mask with one bit set per legal destination
+     */
+    public long legalMoves() {
+        return legalMoves(player, opponent);
+    }
+
+    /**
+     * Returns the opponent discs that would be flipped by the player to move playing at the square.
+     *
+     * @param square the destination square index
+     * @return the mask of flipped discs, 0 if the move is illegal
+     */
+    public long flips(int square) {
+        return flips(player, opponent, square);
+    }
+
+    /**
+     * Returns the number of moves made since the position was set.
+     *
+     * @return the current ply
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * Plays a move for the player to move in place, then hands the turn to the opponent.
+     * The move must be legal; the flipped discs are pushed onto the undo stack.
+     *
+     * @param square the destination square index
+     * @return the mask of flipped discs
+     */
+    public long makeMove(int square) {
+        long flipped = flips(player, opponent, square);
+        moveStack[ply] = square;
+        flipStack[ply] = flipped;
+        hashStack[ply] = hash;
+        swappedHashStack[ply] = swappedHash;
+        ply++;
+
+        // Every flipped disc changes from an opponent key to a player key, or the other way round
+        long flipKeys = 0L;
+        for (long bits = flipped; bits != 0; bits &= bits - 1) {
+            int sq = Long.numberOfTrailingZeros(bits);
+            flipKeys ^= PLAYER_KEYS[sq] ^ OPPONENT_KEYS[sq];
+        }
+        // The mover becomes the opponent, so the new hash starts from the swapped one
+        long newHash = swappedHash ^ flipKeys ^ OPPONENT_KEYS[square];
+        swappedHash = hash ^ flipKeys ^ PLAYER_KEYS[square];
+        hash = newHash;
+
+        long mover = player | flipped | (1L << square);
+        player = opponent & ~flipped;
+        opponent = mover;
+        return flipped;
+    }
+
+    /**
+     * Passes the turn to the opponent in place, used when the player to move has no legal move.
+     */
+    public void makePass() {
+        moveStack[ply] = PASS;
+        flipStack[ply] = 0L;
+        hashStack[ply] = hash;
+        swappedHashStack[ply] = swappedHash;
+        ply++;
+        long mover = player;
+        player = opponent;
+        opponent = mover;
+        hash = swappedHash;
+        swappedHash = hashStack[ply - 1];
+    }
+
+    /**
+     * Takes back the last move or pass, restoring the position exactly as it was before it.
+     */
+    public void undoMove() {
+        ply--;
+        int square = moveStack[ply];
+        long flipped = flipStack[ply];
+        hash = hashStack[ply];
+        swappedHash = swappedHashStack[ply];
+        // The side that made the move is now the opponent
+        long mover = opponent;
+        opponent = player;
+        player = mover;
+        if (square != PASS) {
+            player &= ~(flipped | (1L << square));
+            opponent |= flipped;
+        }
+    }
+
+    /**
+     * Returns the square index for a board coordinate.
+     *
+     * @param x the row of the square
+     * @param y the column of the square
+     * @return the square index in [0, 64)
+     */
+    public static int square(int x, int y) {
+        return x * GAME_BOARD_SIZE + y;
+    }
+
+    /**
+     * Returns the row (x-coordinate) of a square index.
+     *
+     * @param square the square index
+     * @return the row
+     */
+    public static int row(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Returns the column (y-coordinate) of a square index.
+     *
+     * @param square the square index
+     * @return the column
+     */
+    public static int col(int square) {
+        return square & 7;
+    }
+
+    /**
+     * Builds the mask of all squares of the given type on an 8x8 board.
+     *
+     * @param board the board to scan
+     * @param type  the type to look for
+     * @return a mask with one bit set per matching square
+     * @throws IllegalArgumentException if the board is not 8x8
+     */
+    public static long mask(BoardSpace[][] board, BoardSpace.SpaceType type) {
+        if (board.length != GAME_BOARD_SIZE || board[0].length != GAME_BOARD_SIZE) {
+            throw new IllegalArgumentException("A bitboard needs an 8x8 board, not "
+                    + board.length + "x" + board[0].length);
+        }
+        long mask = 0L;
+        for (int x = 0; x < GAME_BOARD_SIZE; x++) {
+            for (int y = 0; y < GAME_BOARD_SIZE; y++) {
+                if (board[x][y].getType() == type) {
+                    mask |= 1L << square(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Writes the square indices of a mask into a reusable buffer, lowest square first.
+     *
+     * @param mask   the squares to list, for example the result of {@link #legalMoves(long, long)}
+     * @param buffer the buffer to fill, with room for at least {@code Long.bitCount(mask)} squares
+     * @return the number of squares written
+     */
+    public static int toSquares(long mask, int[] buffer) {
+        int count = 0;
+        while (mask != 0) {
+            buffer[count++] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Computes the Zobrist hash of a position from scratch.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the 64-bit hash key, equal to {@link #getHash()} for the same position
+     */
+    public static long hash(long player, long opponent) {
+        long key = 0L;
+        for (long bits = player; bits != 0; bits &= bits - 1) {
+            key ^= PLAYER_KEYS[Long.numberOfTrailingZeros(bits)];
+        }
+        for (long bits = opponent; bits != 0; bits &= bits - 1) {
+            key ^= OPPONENT_KEYS[Long.numberOfTrailingZeros(bits)];
+        }
+        return key;
+    }
+
+    /**
+     * Computes all legal moves for the player to move.
+     * For each direction, runs of opponent discs adjacent to the player's discs are grown with shifts,
+     * and an empty square right after such a run is a legal move.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return a mask with one bit set per legal destination
+     */
+    public static long legalMoves(long player, long opponent) {
+        long empty = ~(player | opponent);
+        long rightEdge = opponent & NOT_FIRST_COL;
+        long leftEdge = opponent & NOT_LAST_COL;
+        return movesLeft(player, opponent, empty, 8) | movesRight(player, opponent, empty, 8)
+                | movesLeft(player, rightEdge, empty & NOT_FIRST_COL, 1)
+                | movesRight(player, leftEdge, empty & NOT_LAST_COL, 1)
+                | movesLeft(player, rightEdge, empty & NOT_FIRST_COL, 9)
+                | movesLeft(player, leftEdge, empty & NOT_LAST_COL, 7)
+                | movesRight(player, rightEdge, empty & NOT_FIRST_COL, 7)
+                | movesRight(player, leftEdge, empty & NOT_LAST_COL, 9);
+    }
+
+    /**
+     * Computes the legal moves along one direction that shifts discs towards higher square indices.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the opponent discs that can be reached without wrapping around
+     * @param empty    the empty squares that can be reached without wrapping around
+     * @param amount   the shift of one step
+     * @return the legal moves along this direction
+     */
+    private static long movesLeft(long player, long opponent, long empty, int amount) {
+        long run = (player << amount) & opponent;
+        // An opponent run is at most 6 discs long
+        run |= (run << amount) & opponent;
+        run |= (run << amount) & opponent;
+        run |= (run << amount) & opponent;
+        run |= (run << amount) & opponent;
+        run |= (run << amount) & opponent;
+        return (run << amount) & empty;
+    }
+
+    /**
+     * Computes the legal moves along one direction that shifts discs towards lower square indices.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the opponent discs that can be reached without wrapping around
+     * @param empty    the empty squares that can be reached without wrapping around
+     * @param amount   the shift of one step
+     * @return the legal moves along this direction
+     */
+    private static long movesRight(long player, long opponent, long empty, int amount) {
+        long run = (player >>> amount) & opponent;
+        run |= (run >>> amount) & opponent;
+        run |= (run >>> amount) & opponent;
+        run |= (run >>> amount) & opponent;
+        run |= (run >>> amount) & opponent;
+        run |= (run >>> amount) & opponent;
+        return (run >>> amount) & empty;
+    }
+
+    /**
+     * Computes the opponent discs flipped when the player to move plays at the square.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param square   the destination square index
+     * @return the mask of flipped discs, 0 if the move is illegal
+     */
+    public static long flips(long player, long opponent, int square) {
+        long move = 1L << square;
+        long rightEdgePlayer = player & NOT_FIRST_COL;
+        long rightEdge = opponent & NOT_FIRST_COL;
+        long leftEdgePlayer = player & NOT_LAST_COL;
+        long leftEdge = opponent & NOT_LAST_COL;
+        return flipsLeft(move, player, opponent, 8) | flipsRight(move, player, opponent, 8)
+                | flipsLeft(move, rightEdgePlayer, rightEdge, 1)
+                | flipsRight(move, leftEdgePlayer, leftEdge, 1)
+                | flipsLeft(move, rightEdgePlayer, rightEdge, 9)
+                | flipsLeft(move, leftEdgePlayer, leftEdge, 7)
+                | flipsRight(move, rightEdgePlayer, rightEdge, 7)
+                | flipsRight(move, leftEdgePlayer, leftEdge, 9);
+    }
+
+    /**
+     * Computes the discs flipped along one direction that shifts discs towards higher square indices.
+     *
+     * @param move     the bit of the destination square
+     * @param player   the player discs that can be reached without wrapping around
+     * @param opponent the opponent discs that can be reached without wrapping around
+     * @param amount   the shift of one step
+     * @return the flipped discs along this direction
+     */
+    private static long flipsLeft(long move, long player, long opponent, int amount) {
+        long line = (move << amount) & opponent;
+        line |= (line << amount) & opponent;
+        line |= (line << amount) & opponent;
+        line |= (line << amount) & opponent;
+        line |= (line << amount) & opponent;
+        line |= (line << amount) & opponent;
+        // Only a run closed by one of the player's discs is flipped
+        return ((line << amount) & player) != 0 ? line : 0L;
+    }
+
+    /**
+     * Computes the discs flipped along one direction that shifts discs towards lower square indices.
+     *
+     * @param move     the bit of the destination square
+     * @param player   the player discs that can be reached without wrapping around
+     * @param opponent the opponent discs that can be reached without wrapping around
+     * @param amount   the shift of one step
+     * @return the flipped discs along this direction
+     */
+    private static long flipsRight(long move, long player, long opponent, int amount) {
+        long line = (move >>> amount) & opponent;
+        line |= (line >>> amount) & opponent;
+        line |= (line >>> amount) & opponent;
+        line |= (line >>> amount) & opponent;
+        line |= (line >>> amount) & opponent;
+        line |= (line >>> amount) & opponent;
+        return ((line >>> amount) & player) != 0 ? line : 0L;
+    }
+
+    /**
+     * Scores a position with Constants.BOARD_WEIGHTS from the perspective of the player to move.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the weighted score (positive is good for the player)
+     */
+    public static int evaluate(long player, long opponent) {
+        int score = 0;
+        while (player != 0) {
+            score += SQUARE_WEIGHTS[Long.numberOfTrailingZeros(player)];
+            player &= player - 1;
+        }
+        while (opponent != 0) {
+            score -= SQUARE_WEIGHTS[Long.numberOfTrailingZeros(opponent)];
+            opponent &= opponent - 1;
+        }
+        return score;
+    }
+
+    /**
+     * Checks whether neither side can move, which ends the game.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return true if the game is over
+     */
+    public static boolean isGameOver(long player, long opponent) {
+        return legalMoves(player, opponent) == 0 && legalMoves(opponent, player) == 0;
+    }
+
+    /**
+     * Returns a string representation of the bitboard, one row per line.
+     * The player to move is shown as 'X' and the opponent as 'O'.
+     *
+     * @return a string describing the position
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int x = 0; x < GAME_BOARD_SIZE; x++) {
+            for (int y = 0; y < GAME_BOARD_SIZE; y++) {
+                long bit = 1L << square(x, y);
+                sb.append((player & bit) != 0 ? 'X' : (opponent & bit) != 0 ? 'O' : '.');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -1,7 +1,5 @@
 package othello.gamelogic;
 
-import javafx.scene.paint.Color;
-
 import java.util.Objects;
 
 /**
@@ -76,30 +74,12 @@ public class BoardSpace {
 
     /**
      * Enum representing the type of a BoardSpace.
-     * Includes the associated color for display in the GUI.
+     * The colors used to draw each type are in the GUI, so the game logic does not need JavaFX.
      */
     public enum SpaceType {
-        EMPTY(Color.GRAY),
-        BLACK(Color.web("#393E46")),
-        WHITE(Color.web("#FAF6E9"));
-
-        private final Color fill;
-        /**
-         * Constructor for SpaceType.
-         *
-         * @param fill the Color associated with the type
-         */
-        SpaceType(Color fill) {
-            this.fill = fill;
-        }
-        /**
-         * Constructor for SpaceType.
-         *
-         * @param fill the Color associated with the type
-         */
-        public Color fill() {
-            return fill;
-        }
+        EMPTY,
+        BLACK,
+        WHITE
     }
 
     /**
@@ -18,10 +18,11 @@ public class ComputerPlayer extends Player{
      */
     public ComputerPlayer(String strategyName) {
         // PART 2
-        // TODO: Use the strategyName input to create a specific strategy class for this computer
         // This input should match the ones specified in App.java!
         if (strategyName.equals("minimax")){
             this.strategy = new MinimaxStrategy();
+        } else if (strategyName.equals("expectimax")){
+            this.strategy = new ExpectimaxStrategy();
         } else if (strategyName.equals("mcts")){
             this.strategy = new MCTSStrategy();
         } else {
@@ -29,6 +30,15 @@ public class ComputerPlayer extends Player{
         }
     }
 
+    /**
+     * Returns the strategy this player searches with.
+     *
+     * @return the strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
     /**
      * Selects a move using the associated strategy.
      *
@@ -0,0 +1,809 @@
+package othello.gamelogic;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import static othello.gamelogic.OthelloGame.GAME_BOARD_SIZE;
+
+/**
+ * A custom strategy for the Othello game implementing the Strategy interface.
+ * This strategy uses a depth-limited Minimax algorithm with alpha-beta pruning to select the best move.
+ * The search is written in negamax form (scores are from the side to move) and caches positions
+ * in a {@link TranspositionTable}, so transposed positions are not searched twice.
+ *
+ * <p>Moves are chosen by iterative deepening: the root is searched to depth 1, 2, 3, ... and every
+ * completed depth reorders the root moves (best first) for the next one. By default the search stops
+ * at MAX_DEPTH. With a time budget it keeps deepening until the budget runs out, abandons the
+ * unfinished depth, and plays the best move of the last completed one.
+ *
+ * <p>Two search algorithms are available. Plain alpha-beta searches every move with the full window.
+ * Principal variation search (PVS, also called NegaScout) searches the first move with the full window
+ * and the others with a null window that only proves them worse, re-searching a move if it turns out better.
+ * PVS also starts every depth with an aspiration window around the score of the previous depth.
+ *
+ * <p>Once few enough squares are empty, the {@link EndgameSolver} takes over and plays the move
+ * that is best with perfect play to the end of the game.
+ */
+public class CustomStrategy implements Strategy {
+    /** Default size of the transposition table in megabytes. */
+    public static final int DEFAULT_HASH_MB = 16;
+    /** Default number of empty squares at which the endgame solver takes over. */
+    public static final int DEFAULT_ENDGAME_EMPTIES = 14;
+    // Larger than any evaluation, and safe to negate
+    private static final int INFINITY = 1_000_000;
+    // Score of a won game, before adding the disc difference
+    private static final int WIN_SCORE = 100_000;
+    // Half width of the first aspiration window, in evaluation points
+    private static final int ASPIRATION_WINDOW = 50;
+
+    /**
+     * The search algorithm used below the root.
+     */
+    public enum SearchAlgorithm {
+        /** Alpha-beta with a full window for every move. */
+        ALPHA_BETA,
+        /** Principal variation search with null-window searches and aspiration windows. */
+        PVS
+    }
+
+    private int MAX_DEPTH = 2;
+    private int nodesEvaluated = 0;  // Counter for node evaluations
+    private int testing = 0;
+    private final Bitboard position = new Bitboard(0L, 0L);  // Searched in place with makeMove/undoMove
+    private int hashSizeMegabytes = DEFAULT_HASH_MB;
+    private TranspositionTable table;  // created on the first search unless one is shared in
+    private final MoveOrdering ordering = new MoveOrdering();
+    private SearchAlgorithm algorithm = SearchAlgorithm.ALPHA_BETA;
+
+    // Time control: 0 means no budget (search to MAX_DEPTH)
+    private long timeBudgetMillis = 0;
+    private long deadline;
+    private boolean aborted;
+    private int completedDepth;
+
+    // The last moves are solved exactly instead of searched to a depth
+    private int endgameEmpties = DEFAULT_ENDGAME_EMPTIES;
+    private final EndgameSolver endgameSolver = new EndgameSolver();
+
+    // Root moves of the current search, best first after every completed depth
+    private final int[] rootMoves = new int[Bitboard.NUM_SQUARES];
+    private final int[] rootScores = new int[Bitboard.NUM_SQUARES];
+    private int rootMoveCount;
+    private int rootScore;  // score of the best root move of the last searched depth
+
+    // Lazy SMP: helper threads search the same root and share the transposition table
+    private int threads = 1;
+    private CustomStrategy[] helpers;
+    private volatile boolean stopped;  // set by another thread to stop the search
+    private volatile BooleanSupplier stopCondition;  // checked along with stopped
+    private long totalNodesEvaluated;
+    private SearchListener listener;
+
+    /**
+     * Gets the number of nodes evaluated during the most recent move computation.
+     *
+     * @return the number of evaluated nodes
+     */
+    public int getNodesEvaluated() {
+        return nodesEvaluated;
+    }
+
+    /**
+     * Gets the number of nodes evaluated during the most recent move computation by all threads together,
+     * the main thread included.
+     *
+     * @return the number of evaluated nodes over all threads
+     */
+    public long getTotalNodesEvaluated() {
+        return totalNodesEvaluated;
+    }
+
+    /**
+     * Sets the number of threads searching each move. The extra threads are helpers that search the same
+     * root and share the transposition table ("lazy SMP"), so the main thread finds more of its tree
+     * already searched. The main thread alone keeps the time and picks the move. Defaults to 1.
+     *
+     * @param threads the number of threads, at least 1
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Resets the counter tracking the number of evaluated nodes.
+     */
+    public void resetNodesEvaluated() {
+        nodesEvaluated = 0;
+    }
+
+    /**
+     * Sets the depth searched below each root move when there is no time budget.
+     *
+     * @param maxDepth the maximum search depth, at least 0
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.MAX_DEPTH = maxDepth;
+    }
+
+    /**
+     * Sets the search algorithm. Defaults to {@link SearchAlgorithm#ALPHA_BETA}.
+     *
+     * @param algorithm plain alpha-beta or principal variation search
+     */
+    public void setSearchAlgorithm(SearchAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Sets the time budget for each move. With a budget, the search deepens until the time runs out
+     * instead of stopping at MAX_DEPTH.
+     *
+     * @param millis the wall-clock time per move in milliseconds, or 0 to search to a fixed depth
+     */
+    public void setTimeBudgetMillis(long millis) {
+        this.timeBudgetMillis = millis;
+    }
+
+    /**
+     * Returns the deepest search depth completed during the most recent move computation.
+     * The root move adds one ply, so depth 2 means the tree was searched 3 plies deep.
+     *
+     * @return the last completed depth, or -1 if no depth was completed
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Sets a listener that is told the best move after every completed depth, and once after an endgame solve.
+     *
+     * @param listener the listener, or null for none
+     */
+    @Override
+    public void setSearchListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Stops the search running on another thread, which then returns the best move of its last completed
+     * depth. An endgame solve is not interrupted.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStopCondition(BooleanSupplier condition) {
+        this.stopCondition = condition;
+    }
+
+    /**
+     * Returns whether the search has been asked to stop, with {@link #stop()} or the stop condition.
+     *
+     * @return true if the search should return
+     */
+    private boolean isStopped() {
+        BooleanSupplier condition = stopCondition;
+        return stopped || condition != null && condition.getAsBoolean();
+    }
+
+    /**
+     * Sets the number of empty squares at which the endgame solver takes over from the depth-limited search.
+     *
+     * @param empties the largest number of empty squares to solve exactly, or 0 to never use the solver
+     */
+    public void setEndgameEmpties(int empties) {
+        this.endgameEmpties = empties;
+    }
+
+    /**
+     * Returns the endgame solver, to choose its mode or read the time and nodes of the last solve.
+     *
+     * @return the endgame solver
+     */
+    public EndgameSolver getEndgameSolver() {
+        return endgameSolver;
+    }
+
+    /**
+     * Returns the score of the best root move at the last completed depth, from the side to move.
+     *
+     * @return the root score
+     */
+    int getRootScore() {
+        return rootScore;
+    }
+
+    /**
+     * Sets the size of the transposition table this strategy creates for itself.
+     * Takes effect on the next search; any current table is discarded.
+     *
+     * @param megabytes the table size in megabytes, at least 1
+     */
+    public void setHashSizeMegabytes(int megabytes) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("Hash size must be at least 1 MB: " + megabytes);
+        }
+        this.hashSizeMegabytes = megabytes;
+        this.table = null;
+    }
+
+    /**
+     * Shares a transposition table with this strategy, for example one used by other search threads.
+     *
+     * @param table the table to probe and store into
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Returns the transposition table used by this strategy, creating it if needed.
+     *
+     * @return the transposition table
+     */
+    public TranspositionTable getTranspositionTable() {
+        if (table == null) {
+            table = new TranspositionTable(hashSizeMegabytes);
+        }
+        return table;
+    }
+
+    /**
+     * Selects the best move for the given player using the Minimax algorithm with alpha-beta pruning.
+     *
+     * @param board    the current board state
+     * @param player   the current player
+     * @param opponent the opposing player
+     * @return the selected move as a {@code BoardSpace}
+     */
+    @Override
+    public BoardSpace selectMove(BoardSpace[][] board, Player player, Player opponent) {
+        if (board.length != GAME_BOARD_SIZE || board[0].length != GAME_BOARD_SIZE) {
+            return selectMoveOnBoard(board, player, opponent);
+        }
+        int square = bestMove(Bitboard.mask(board, player.getColor()), Bitboard.mask(board, opponent.getColor()));
+        if (square == Bitboard.PASS) {
+            return null;
+        }
+        return board[Bitboard.row(square)][Bitboard.col(square)];
+    }
+
+    /**
+     * Selects a move on a board that is not 8x8, which a bitboard cannot represent, with a fixed-depth
+     * {@link #minmaximizer} search. There is no iterative deepening, transposition table or endgame solver here.
+     *
+     * @param board    the current board state
+     * @param player   the current player
+     * @param opponent the opposing player
+     * @return the selected move, or null if there is no legal move
+     */
+    private BoardSpace selectMoveOnBoard(BoardSpace[][] board, Player player, Player opponent) {
+        resetNodesEvaluated();
+        int maxScore = Integer.MIN_VALUE;
+        BoardSpace move = null;
+        int alpha = Integer.MIN_VALUE;
+        Map<BoardSpace, List<BoardSpace>> availableMoves = player.getAvailableMoves(board);
+        for (Map.Entry<BoardSpace, List<BoardSpace>> entry : availableMoves.entrySet()) {
+            BoardSpace[][] copiedBoard = copyBoard(board);
+            simulate(copiedBoard, entry.getKey(), entry.getValue(), player);
+            int score = minmaximizer(copiedBoard, player, opponent, MAX_DEPTH, false, alpha, Integer.MAX_VALUE);
+            if (move == null || score > maxScore) {
+                maxScore = score;
+                move = entry.getKey();
+            }
+            alpha = Math.max(alpha, score);
+        }
+        return move;
+    }
+
+    /**
+     * Searches a position given as bitboards and returns the best move, which is what
+     * {@link #selectMove} plays.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the square of the best move, or {@link Bitboard#PASS} if there is no legal move
+     */
+    int bestMove(long player, long opponent) {
+        resetNodesEvaluated();  // Reset counter before each move
+        totalNodesEvaluated = 0;
+        stopped = false;
+        position.setPosition(player, opponent);
+        getTranspositionTable();  // make sure the table exists before searching
+
+        if (collectRootMoves() == 0) {
+            return Bitboard.PASS;
+        }
+
+        int empties = Long.bitCount(~(position.getPlayer() | position.getOpponent()));
+        if (empties <= endgameEmpties) {
+            endgameSolver.solve(position.getPlayer(), position.getOpponent());
+            completedDepth = empties;
+            if (listener != null) {
+                listener.depthCompleted(empties, endgameSolver.getBestMove(), endgameSolver.getNodes());
+            }
+            return endgameSolver.getBestMove();
+        }
+
+        int maxDepth = MAX_DEPTH;
+        if (timeBudgetMillis > 0) {
+            // Deepening past the number of empty squares cannot find anything new
+            maxDepth = empties;
+            deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        }
+        ordering.newSearch();
+        Thread[] workers = startHelpers(maxDepth);
+        int bestSquare = iterativeDeepening(0, maxDepth);
+        stopHelpers(workers);
+        totalNodesEvaluated += nodesEvaluated;
+        return bestSquare;
+    }
+
+    /**
+     * Fills the root move list with the legal moves of the current position.
+     *
+     * @return the number of root moves
+     */
+    private int collectRootMoves() {
+        rootMoveCount = 0;
+        for (long moves = position.legalMoves(); moves != 0; moves &= moves - 1) {
+            rootMoves[rootMoveCount++] = Long.numberOfTrailingZeros(moves);
+        }
+        return rootMoveCount;
+    }
+
+    /**
+     * Searches the root at increasing depths until the maximum depth is done or the search is aborted.
+     *
+     * @param firstDepth the first depth to search
+     * @param maxDepth   the last depth to search
+     * @return the best root move of the last completed depth, or the first root move if none was completed
+     */
+    private int iterativeDeepening(int firstDepth, int maxDepth) {
+        aborted = false;
+        completedDepth = -1;
+        int bestSquare = rootMoves[0];
+        for (int depth = firstDepth; depth <= maxDepth; depth++) {
+            int square;
+            if (algorithm == SearchAlgorithm.PVS && completedDepth >= 0 && Math.abs(rootScore) < WIN_SCORE) {
+                square = aspirationSearch(depth);
+            } else {
+                square = searchRoot(depth, -INFINITY, INFINITY);
+            }
+            if (aborted) {
+                break;  // fall back to the last completed depth
+            }
+            bestSquare = square;
+            completedDepth = depth;
+            if (listener != null) {
+                listener.depthCompleted(depth, bestSquare, nodesEvaluated);
+            }
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Starts the helper threads on the current root, if more than one thread is configured.
+     * Each helper has its own board, move ordering and counters, and shares only the transposition table.
+     * Every other helper starts one depth deeper, so the threads are spread over two depths
+     * and store results the main thread is about to need.
+     *
+     * @param maxDepth the last depth the helpers search
+     * @return the started threads, or null if there are none
+     */
+    private Thread[] startHelpers(int maxDepth) {
+        if (threads == 1) {
+            return null;
+        }
+        if (helpers == null || helpers.length != threads - 1) {
+            helpers = new CustomStrategy[threads - 1];
+            for (int i = 0; i < helpers.length; i++) {
+                helpers[i] = new CustomStrategy();
+            }
+        }
+        long player = position.getPlayer();
+        long opponent = position.getOpponent();
+        Thread[] workers = new Thread[helpers.length];
+        for (int i = 0; i < helpers.length; i++) {
+            CustomStrategy helper = helpers[i];
+            helper.table = table;
+            helper.algorithm = algorithm;
+            helper.stopped = false;
+            int firstDepth = (i + 1) % 2;
+            workers[i] = new Thread(() -> helper.helperSearch(player, opponent, firstDepth, maxDepth), "search-helper-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        return workers;
+    }
+
+    /**
+     * Tells the helper threads to stop, waits for them, and adds their nodes to the total.
+     *
+     * @param workers the threads returned by {@link #startHelpers(int)}, or null
+     */
+    private void stopHelpers(Thread[] workers) {
+        if (workers == null) {
+            return;
+        }
+        for (CustomStrategy helper : helpers) {
+            helper.stopped = true;
+        }
+        for (int i = 0; i < workers.length; i++) {
+            try {
+                workers[i].join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            totalNodesEvaluated += helpers[i].nodesEvaluated;
+        }
+    }
+
+    /**
+     * The work of a helper thread: iterative deepening from the given root until the maximum depth is done
+     * or the main thread sets {@code stopped}. The results only reach the main thread through the table.
+     *
+     * @param player     the discs of the player to move
+     * @param opponent   the discs of the opponent
+     * @param firstDepth the first depth to search
+     * @param maxDepth   the last depth to search
+     */
+    private void helperSearch(long player, long opponent, int firstDepth, int maxDepth) {
+        resetNodesEvaluated();
+        position.setPosition(player, opponent);
+        collectRootMoves();
+        ordering.newSearch();
+        iterativeDeepening(firstDepth, maxDepth);
+    }
+
+    /**
+     * Searches the root in a narrow window around the score of the previous depth, which cuts off
+     * more of the tree. If the score falls outside the window, the window is widened on that side
+     * and the depth searched again.
+     *
+     * @param depth the depth searched below each root move
+     * @return the best root move, only meaningful if the search was not aborted
+     */
+    private int aspirationSearch(int depth) {
+        int delta = ASPIRATION_WINDOW;
+        int alpha = rootScore - delta;
+        int beta = rootScore + delta;
+        while (true) {
+            int square = searchRoot(depth, alpha, beta);
+            if (aborted) {
+                return square;
+            }
+            if (rootScore <= alpha) {
+                alpha = Math.max(-INFINITY, alpha - delta);
+            } else if (rootScore >= beta) {
+                beta = Math.min(INFINITY, beta + delta);
+            } else {
+                return square;
+            }
+            delta *= 2;
+        }
+    }
+
+    /**
+     * Searches every root move to the given depth, then sorts the root moves by score so the next
+     * depth searches the best one first. The score of the best move is left in {@code rootScore}.
+     *
+     * @param depth the depth searched below each root move
+     * @param alpha the lower bound of the window
+     * @param beta  the upper bound of the window
+     * @return the best root move, only meaningful if the search was not aborted
+     */
+    private int searchRoot(int depth, int alpha, int beta) {
+        int originalAlpha = alpha;
+        int maxScore = -INFINITY;
+        int bestSquare = rootMoves[0];
+        for (int i = 0; i < rootMoveCount; i++) {
+            int square = rootMoves[i];
+            position.makeMove(square);
+            int score = searchChild(depth, alpha, beta, i == 0);
+            position.undoMove();
+            if (aborted) {
+                return bestSquare;
+            }
+            rootScores[i] = score;
+            if (score > maxScore) {
+                maxScore = score;
+                bestSquare = square;
+            }
+            alpha = Math.max(alpha, score);  // Update alpha with the actual score, not maxScore
+            if (alpha >= beta) {
+                // Failed high: the window is widened and the depth searched again, so sort the rest last
+                for (int j = i + 1; j < rootMoveCount; j++) {
+                    rootScores[j] = -INFINITY;
+                }
+                break;
+            }
+        }
+        rootScore = maxScore;
+        int bound = maxScore <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : maxScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(position.getHash(), depth + 1, bound, maxScore, bestSquare);
+
+
+        // Stable insertion sort, best score first, so ties keep the previous order
+        for (int i = 1; i < rootMoveCount; i++) {
+            int move = rootMoves[i];
+            int score = rootScores[i];
+            int j = i - 1;
+            while (j >= 0 && rootScores[j] < score) {
+                rootMoves[j + 1] = rootMoves[j];
+                rootScores[j + 1] = rootScores[j];
+                j--;
+            }
+            rootMoves[j + 1] = move;
+            rootScores[j + 1] = score;
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Bitboard implementation of Minimax with alpha-beta pruning, used by {@link #selectMove}.
+     * Written in negamax form: the score is from the perspective of the side to move, and a child's
+     * score is negated. Walks the tree on a single bitboard, making and undoing each move in place,
+     * and probes the transposition table before searching a node.
+     *
+     * @param position the current board state
+     * @param depth    the remaining search depth
+     * @param alpha    current alpha value
+     * @param beta     current beta value
+     * @return the evaluated score for the side to move
+     */
+    private int search(Bitboard position, int depth, int alpha, int beta) {
+        nodesEvaluated++;  // to check the efficiency
+        // Checking the clock is slow, so only do it every 1024 nodes, and never before depth 0 is done
+        if ((nodesEvaluated & 1023) == 0 && (isStopped() || timeBudgetMillis > 0 && completedDepth >= 0
+                && System.nanoTime() >= deadline)) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;  // the result is thrown away, just unwind
+        }
+
+        if (depth == 0) {
+            return Bitboard.evaluate(position.getPlayer(), position.getOpponent());
+        }
+
+        // Reuse a previous search of this position if it is deep enough and its bound is useful
+        long key = position.getHash();
+        long entry = table.probe(key);
+        int hashMove = TranspositionTable.NO_MOVE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashMove = TranspositionTable.move(entry);
+            if (TranspositionTable.depth(entry) >= depth) {
+                int score = TranspositionTable.score(entry);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        long availableMoves = position.legalMoves();
+        if (availableMoves == 0) {
+            if (Bitboard.legalMoves(position.getOpponent(), position.getPlayer()) == 0) {
+                return finalScore(position.getPlayer(), position.getOpponent());
+            }
+            // No move: pass the turn to the opponent
+            position.makePass();
+            int score = -search(position, depth - 1, -beta, -alpha);
+            position.undoMove();
+            return aborted ? 0 : score;
+        }
+
+        int originalAlpha = alpha;
+        int maxScore = -INFINITY;
+        int bestSquare = TranspositionTable.NO_MOVE;
+        // Hash move first, then killers, then history, so cutoffs come as early as possible
+        int ply = position.getPly();
+        int count = ordering.order(availableMoves, hashMove, ply);
+        int[] moves = ordering.moves(ply);
+        for (int i = 0; i < count && alpha < beta; i++) {
+            int square = moves[i];
+            position.makeMove(square);
+            int score = searchChild(depth - 1, alpha, beta, i == 0);
+            position.undoMove();
+            if (aborted) {
+                return 0;  // do not store a partial result in the table
+            }
+            if (score > maxScore) {
+                maxScore = score;
+                bestSquare = square;
+            }
+            // alpha-beta pruning
+            alpha = Math.max(alpha, maxScore);
+            if (alpha >= beta) {
+                ordering.recordCutoff(square, ply, depth);
+            }
+        }
+
+        int bound = maxScore <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : maxScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(key, depth, bound, maxScore, bestSquare);
+        return maxScore;
+    }
+
+    /**
+     * Searches the position after a move and returns its score for the side that made the move.
+     * With PVS, every move but the first is searched with a null window first, which is cheaper
+     * and only proves the move is not better than alpha; if it is better, it is searched again
+     * with the full window to get its score.
+     *
+     * @param depth the remaining depth of the child
+     * @param alpha the lower bound of the parent's window
+     * @param beta  the upper bound of the parent's window
+     * @param first whether this is the first move of the parent, searched with the full window
+     * @return the score of the move for the side that made it
+     */
+    private int searchChild(int depth, int alpha, int beta, boolean first) {
+        if (algorithm != SearchAlgorithm.PVS || first) {
+            return -search(position, depth, -beta, -alpha);
+        }
+        int score = -search(position, depth, -alpha - 1, -alpha);
+        if (score > alpha && score < beta && !aborted) {
+            score = -search(position, depth, -beta, -alpha);
+        }
+        return score;
+    }
+
+    /**
+     * Scores a finished game for the side to move: any win is better than any evaluation,
+     * and bigger wins are better than smaller ones.
+     *
+     * @param player   the discs of the side to move
+     * @param opponent the discs of the other side
+     * @return the final score
+     */
+    private int finalScore(long player, long opponent) {
+        int discDifference = Long.bitCount(player) - Long.bitCount(opponent);
+        if (discDifference > 0) {
+            return WIN_SCORE + discDifference;
+        } else if (discDifference < 0) {
+            return -WIN_SCORE + discDifference;
+        }
+        return 0;
+    }
+
+    /**
+     * Recursive implementation of Minimax algorithm with alpha-beta pruning on a {@code BoardSpace[][]} board.
+     * Used by {@link #selectMove} for boards that are not 8x8, which a bitboard cannot represent.
+     *
+     * @param board      the current board state
+     * @param player     the maximizing player
+     * @param opponent   the minimizing opponent
+     * @param depth      the remaining search depth
+     * @param maximizing whether the current layer is maximizing
+     * @param alpha      current alpha value
+     * @param beta       current beta value
+     * @return the evaluated score
+     */
+    int minmaximizer(BoardSpace[][] board, Player player, Player opponent, int depth, boolean maximizing, int alpha, int beta) {
+        nodesEvaluated++;  // to check the efficiency
+
+        if (depth == 0) { //so this is the base case
+            return scoreBoard(board, player, Constants.BOARD_WEIGHTS);
+        }
+
+        if (maximizing) {
+            int maxScore = Integer.MIN_VALUE;
+            Map<BoardSpace, List<BoardSpace>> availableMoves = player.getAvailableMoves(board);
+            for (BoardSpace move : availableMoves.keySet()) {
+                BoardSpace[][] copiedBoard = copyBoard(board);
+                simulate(copiedBoard, move, availableMoves.get(move), player);
+                int score = minmaximizer(copiedBoard, player, opponent, depth-1, false, alpha, beta);
+                maxScore = Math.max(maxScore, score);
+                // alpha-beta pruning
+                alpha = Math.max(alpha, maxScore);
+                if (beta <= alpha) {
+                    break;
+                }
+            }
+            return maxScore;
+        }
+        // Minimizer
+        else {
+            int minScore = Integer.MAX_VALUE;
+            Map<BoardSpace, List<BoardSpace>> availableMoves = opponent.getAvailableMoves(board);
+            for (BoardSpace move : availableMoves.keySet()) {
+                BoardSpace[][] copiedBoard = copyBoard(board); //deep copy
+                simulate(copiedBoard, move, availableMoves.get(move), opponent); //change copied board
+                int score = minmaximizer(copiedBoard, player, opponent, depth-1, true, alpha, beta);
+                minScore = Math.min(minScore, score);
+                // alpha-beta pruning
+                beta = Math.min(beta, minScore);
+                if (beta <= alpha) {
+                    break; // Alpha cutoff
+                }
+            }
+            return minScore;
+        }
+    }
+
+    /**
+     * Simulates a move by flipping all affected pieces between origins and destination on the board.
+     *
+     * @param board   the board to modify
+     * @param dest    the destination of the move
+     * @param origins the list of origin pieces to flip from
+     * @param player  the current player making the move
+     */
+    private void simulate(BoardSpace[][] board, BoardSpace dest, List<BoardSpace> origins, Player player) {//change copied board
+
+        if (dest.getX() < 0 || dest.getX() >= GAME_BOARD_SIZE || dest.getY() < 0 || dest.getY() >= GAME_BOARD_SIZE) {
+            return;
+        }
+
+        board[dest.getX()][dest.getY()].setType(player.getColor());
+
+        if(origins == null) return;
+
+        for (BoardSpace origin : origins) {
+            int dx = Integer.compare(dest.getX() - origin.getX(), 0);
+            int dy = Integer.compare(dest.getY() - origin.getY(), 0);
+
+            int x = origin.getX() + dx;
+            int y = origin.getY() + dy;
+
+            while (x != dest.getX() || y != dest.getY()) {//we could do this only because they are on the same line: vertically, horizontally, or diagonally
+                if (x < 0 || x >= GAME_BOARD_SIZE || y < 0 || y >= GAME_BOARD_SIZE) {
+                    return; // skip this direction
+                }
+                board[x][y].setType(player.getColor());
+                x += dx;
+                y += dy;
+            }
+        }
+    }
+
+    /**
+     * Creates a deep copy of the provided board.
+     *
+     * @param board the original board to copy
+     * @return a new board array with copied {@code BoardSpace} objects
+     */
+    private BoardSpace[][] copyBoard(BoardSpace[][] board) {
+        BoardSpace[][] newBoard = new BoardSpace[board.length][board[0].length];
+        for (int row = 0; row < board.length; row ++) {
+            for (int col = 0; col < board[0].length; col++) {
+                newBoard[row][col] = new BoardSpace(board[row][col].getX(), board[row][col].getY(), board[row][col].getType());
+            }
+        }
+        return newBoard;
+    }
+
+    /**
+     * Evaluates the board by calculating the weighted score for the specified player.
+     * Opponent scores are subtracted from the player's score.
+     *
+     * @param board         the board to evaluate
+     * @param player        the player whose score is being computed
+     * @param boardWeights  the weights assigned to each position on the board
+     * @return the computed score
+     */
+    private int scoreBoard(BoardSpace[][] board, Player player, int[][] boardWeights) {
+        int score = 0;
+        for (int row = 0; row < board.length; row++) {
+            for (int col =0; col < board[0].length; col++) {
+                if (board[row][col].getType() == player.getColor()) {
+                    score += boardWeights[row][col];
+                } else if (board[row][col].getType() != BoardSpace.SpaceType.EMPTY) {
+                    score -= boardWeights[row][col];
+                }
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,399 @@
+package othello.gamelogic;
+
+/**
+ * Solves the end of a game exactly by searching every line to the last move.
+ * It works on two bitboards passed by value, so it needs no board copies and no undo.
+ *
+ * <p>The solver can compute the exact final disc difference, or only whether the side to move wins,
+ * loses or draws, which is faster because the search runs with a null window around 0.
+ * It speeds up the search in four ways:
+ * <ul>
+ *   <li>Fastest first: moves that leave the opponent the fewest replies are searched first.</li>
+ *   <li>Parity: moves into a quadrant with an odd number of empty squares come first, since the
+ *       side that moves last in a region usually gains there.</li>
+ *   <li>Stability cutoff: discs that can never be flipped bound the best reachable score, and the node is
+ *       cut off when that bound cannot beat alpha.</li>
+ *   <li>The last few empty squares are searched by looping over the empty squares directly instead of
+ *       generating and sorting moves, and the last one is scored without any recursion.</li>
+ * </ul>
+ */
+public class EndgameSolver {
+    /**
+     * What the solver computes.
+     */
+    public enum Mode {
+        /** Only the sign of the result: 1 for a win, 0 for a draw, -1 for a loss. */
+        WIN_LOSS_DRAW,
+        /** The exact final disc difference with best play. */
+        EXACT
+    }
+
+    // Positions with this many empty squares or fewer use the shallow routine without move ordering
+    private static final int LAST_FEW_EMPTIES = 5;
+    // A disc difference can never reach this
+    private static final int INFINITY = 65;
+
+    private static final long CORNERS = 0x8100000000000081L;
+    private static final long NOT_FIRST_COL = 0xFEFEFEFEFEFEFEFEL;
+    private static final long NOT_LAST_COL = 0x7F7F7F7F7F7F7F7FL;
+    private static final long FIRST_AND_LAST_COL = 0x8181818181818181L;
+    private static final long FIRST_AND_LAST_ROW = 0xFF000000000000FFL;
+    private static final long BORDER = FIRST_AND_LAST_COL | FIRST_AND_LAST_ROW;
+
+    // The quadrant of each square as a bit (0..3), and the squares of each quadrant
+    private static final int[] QUADRANT_BIT = new int[Bitboard.NUM_SQUARES];
+    private static final long[] QUADRANT_MASKS = new long[4];
+    // Every row, column, diagonal and anti-diagonal, used to find full lines
+    private static final long[] ROWS = new long[8];
+    private static final long[] COLS = new long[8];
+    private static final long[] DIAGONALS = new long[15];
+    private static final long[] ANTI_DIAGONALS = new long[15];
+
+    static {
+        for (int sq = 0; sq < Bitboard.NUM_SQUARES; sq++) {
+            int row = Bitboard.row(sq);
+            int col = Bitboard.col(sq);
+            int quadrant = (row >= 4 ? 2 : 0) + (col >= 4 ? 1 : 0);
+            QUADRANT_BIT[sq] = 1 << quadrant;
+            QUADRANT_MASKS[quadrant] |= 1L << sq;
+            ROWS[row] |= 1L << sq;
+            COLS[col] |= 1L << sq;
+            DIAGONALS[row - col + 7] |= 1L << sq;
+            ANTI_DIAGONALS[row + col] |= 1L << sq;
+        }
+    }
+
+    private Mode mode = Mode.EXACT;
+    private long nodes;
+    private long solveNanos;
+    private int bestMove = Bitboard.PASS;
+
+    // Move lists for the ordered search, one per number of empty squares, so nothing is allocated while searching.
+    // A pass keeps the number of empty squares, but the passing node has no moves in its list, so they never clash.
+    private final int[][] moveBuffers = new int[Bitboard.NUM_SQUARES + 1][Bitboard.NUM_SQUARES];
+    private final int[][] keyBuffers = new int[Bitboard.NUM_SQUARES + 1][Bitboard.NUM_SQUARES];
+
+    /**
+     * Sets what the solver computes. Defaults to {@link Mode#EXACT}.
+     *
+     * @param mode exact disc difference or win/loss/draw only
+     */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Returns what the solver computes.
+     *
+     * @return the current mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of positions searched by the most recent solve.
+     *
+     * @return the node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the wall-clock time of the most recent solve.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getSolveTimeNanos() {
+        return solveNanos;
+    }
+
+    /**
+     * Returns the best move found by the most recent solve.
+     *
+     * @return the square index of the move, or {@link Bitboard#PASS} if the side to move had no move
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Solves a position for the side to move.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the final disc difference (player minus opponent) with best play in {@link Mode#EXACT} mode,
+     *         or its sign in {@link Mode#WIN_LOSS_DRAW} mode
+     */
+    public int solve(long player, long opponent) {
+        long start = System.nanoTime();
+        nodes = 0;
+        bestMove = Bitboard.PASS;
+        long empty = ~(player | opponent);
+        int empties = Long.bitCount(empty);
+        int parity = parity(empty);
+        int alpha = mode == Mode.EXACT ? -INFINITY : -1;
+        int beta = mode == Mode.EXACT ? INFINITY : 1;
+
+        int score;
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            score = search(player, opponent, alpha, beta, empties, parity);
+        } else {
+            nodes++;
+            int count = orderMoves(player, opponent, moves, parity, empties);
+            int[] buffer = moveBuffers[empties];
+            score = -INFINITY;
+            for (int i = 0; i < count && score < beta; i++) {
+                int square = buffer[i];
+                long flipped = Bitboard.flips(player, opponent, square);
+                int value = -search(opponent & ~flipped, player | flipped | (1L << square),
+                        -beta, -Math.max(alpha, score), empties - 1, parity ^ QUADRANT_BIT[square]);
+                if (value > score) {
+                    score = value;
+                    bestMove = square;
+                }
+            }
+        }
+        solveNanos = System.nanoTime() - start;
+        return mode == Mode.EXACT ? score : Integer.signum(score);
+    }
+
+    /**
+     * Searches a position with alpha-beta pruning in negamax form, ordering the moves.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param alpha    the lower bound of the window
+     * @param beta     the upper bound of the window
+     * @param empties  the number of empty squares
+     * @param parity   one bit per quadrant, set if the quadrant has an odd number of empty squares
+     * @return the score for the player to move (fail-soft)
+     */
+    private int search(long player, long opponent, int alpha, int beta, int empties, int parity) {
+        if (empties <= LAST_FEW_EMPTIES) {
+            return searchLastFew(player, opponent, alpha, beta, empties, parity);
+        }
+        nodes++;
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            if (Bitboard.legalMoves(opponent, player) == 0) {
+                return Long.bitCount(player) - Long.bitCount(opponent);
+            }
+            return -search(opponent, player, -beta, -alpha, empties, parity);
+        }
+
+        // Stability cutoff: the opponent keeps its stable discs whatever happens
+        if (alpha >= Bitboard.NUM_SQUARES - 2 * Long.bitCount(opponent)) {
+            int upperBound = Bitboard.NUM_SQUARES - 2 * Long.bitCount(stableDiscs(opponent, player));
+            if (upperBound <= alpha) {
+                return upperBound;
+            }
+        }
+
+        int count = orderMoves(player, opponent, moves, parity, empties);
+        int[] buffer = moveBuffers[empties];
+        int best = -INFINITY;
+        for (int i = 0; i < count; i++) {
+            int square = buffer[i];
+            long flipped = Bitboard.flips(player, opponent, square);
+            int score = -search(opponent & ~flipped, player | flipped | (1L << square),
+                    -beta, -Math.max(alpha, best), empties - 1, parity ^ QUADRANT_BIT[square]);
+            if (score > best) {
+                best = score;
+                if (best >= beta) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Searches a position with few empty squares. The empty squares are tried directly,
+     * those in quadrants with an odd number of empty squares first.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param alpha    the lower bound of the window
+     * @param beta     the upper bound of the window
+     * @param empties  the number of empty squares
+     * @param parity   one bit per quadrant, set if the quadrant has an odd number of empty squares
+     * @return the score for the player to move (fail-soft)
+     */
+    private int searchLastFew(long player, long opponent, int alpha, int beta, int empties, int parity) {
+        nodes++;
+        long empty = ~(player | opponent);
+        if (empties == 0) {
+            return Long.bitCount(player) - Long.bitCount(opponent);
+        }
+        if (empties == 1) {
+            return lastMove(player, opponent, Long.numberOfTrailingZeros(empty));
+        }
+        long odd = 0L;
+        for (int quadrant = 0; quadrant < 4; quadrant++) {
+            if ((parity & (1 << quadrant)) != 0) {
+                odd |= QUADRANT_MASKS[quadrant];
+            }
+        }
+        int best = -INFINITY;
+        boolean moved = false;
+        // Two rounds: squares in odd quadrants, then the rest
+        for (int round = 0; round < 2; round++) {
+            long squares = round == 0 ? empty & odd : empty & ~odd;
+            while (squares != 0) {
+                int square = Long.numberOfTrailingZeros(squares);
+                squares &= squares - 1;
+                long flipped = Bitboard.flips(player, opponent, square);
+                if (flipped == 0) {
+                    continue;
+                }
+                moved = true;
+                int score = -searchLastFew(opponent & ~flipped, player | flipped | (1L << square),
+                        -beta, -Math.max(alpha, best), empties - 1, parity ^ QUADRANT_BIT[square]);
+                if (score > best) {
+                    best = score;
+                    if (best >= beta) {
+                        return best;
+                    }
+                }
+            }
+        }
+        if (moved) {
+            return best;
+        }
+        if (Bitboard.legalMoves(opponent, player) == 0) {
+            return Long.bitCount(player) - Long.bitCount(opponent);
+        }
+        return -searchLastFew(opponent, player, -beta, -alpha, empties, parity);
+    }
+
+    /**
+     * Scores the position with one empty square left, by playing it for whichever side can.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param square   the last empty square
+     * @return the final disc difference for the player to move
+     */
+    private int lastMove(long player, long opponent, int square) {
+        long flipped = Bitboard.flips(player, opponent, square);
+        if (flipped != 0) {
+            return Long.bitCount(player | flipped) + 1 - Long.bitCount(opponent & ~flipped);
+        }
+        flipped = Bitboard.flips(opponent, player, square);
+        if (flipped != 0) {
+            return Long.bitCount(player & ~flipped) - Long.bitCount(opponent | flipped) - 1;
+        }
+        return Long.bitCount(player) - Long.bitCount(opponent);
+    }
+
+    /**
+     * Fills the move buffer for this number of empty squares with the legal moves, best first:
+     * fewest opponent replies, then corners, then moves into odd quadrants.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param moves    the legal moves
+     * @param parity   one bit per quadrant, set if the quadrant has an odd number of empty squares
+     * @param empties  the number of empty squares, which selects the buffer
+     * @return the number of moves
+     */
+    private int orderMoves(long player, long opponent, long moves, int parity, int empties) {
+        int[] buffer = moveBuffers[empties];
+        int[] keys = keyBuffers[empties];
+        int count = 0;
+        while (moves != 0) {
+            int square = Long.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+            long flipped = Bitboard.flips(player, opponent, square);
+            long newPlayer = opponent & ~flipped;
+            long newOpponent = player | flipped | (1L << square);
+            // Lower keys are searched first
+            int key = Long.bitCount(Bitboard.legalMoves(newPlayer, newOpponent)) * 4;
+            if ((CORNERS & (1L << square)) != 0) {
+                key -= 2;
+            }
+            if ((parity & QUADRANT_BIT[square]) != 0) {
+                key -= 1;
+            }
+            // Insertion sort, the lists are short
+            int j = count - 1;
+            while (j >= 0 && keys[j] > key) {
+                buffer[j + 1] = buffer[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            buffer[j + 1] = square;
+            keys[j + 1] = key;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Computes the quadrant parity of a set of empty squares.
+     *
+     * @param empty the empty squares
+     * @return one bit per quadrant, set if the quadrant has an odd number of empty squares
+     */
+    private static int parity(long empty) {
+        int parity = 0;
+        for (int quadrant = 0; quadrant < 4; quadrant++) {
+            if ((Long.bitCount(empty & QUADRANT_MASKS[quadrant]) & 1) != 0) {
+                parity |= 1 << quadrant;
+            }
+        }
+        return parity;
+    }
+
+    /**
+     * Finds discs that can never be flipped. A disc is stable if, along each of the four lines through it,
+     * the line is full, or the disc touches the edge of the board, or it has a stable neighbor of its own color.
+     * This finds most but not all stable discs, which is fine for a bound.
+     *
+     * @param own   the discs to check
+     * @param other the discs of the other side
+     * @return the stable discs among {@code own}
+     */
+    static long stableDiscs(long own, long other) {
+        long filled = own | other;
+        long fullRows = fullLines(filled, ROWS);
+        long fullCols = fullLines(filled, COLS);
+        long fullDiagonals = fullLines(filled, DIAGONALS);
+        long fullAntiDiagonals = fullLines(filled, ANTI_DIAGONALS);
+
+        long stable = 0L;
+        long previous;
+        do {
+            previous = stable;
+            long horizontal = fullRows | FIRST_AND_LAST_COL
+                    | ((stable << 1) & NOT_FIRST_COL) | ((stable >>> 1) & NOT_LAST_COL);
+            long vertical = fullCols | FIRST_AND_LAST_ROW | (stable << 8) | (stable >>> 8);
+            long diagonal = fullDiagonals | BORDER
+                    | ((stable << 9) & NOT_FIRST_COL) | ((stable >>> 9) & NOT_LAST_COL);
+            long antiDiagonal = fullAntiDiagonals | BORDER
+                    | ((stable << 7) & NOT_LAST_COL) | ((stable >>> 7) & NOT_FIRST_COL);
+            stable |= own & horizontal & vertical & diagonal & antiDiagonal;
+        } while (stable != previous);
+        return stable;
+    }
+
+    /**
+     * Returns the union of the lines that are completely filled.
+     *
+     * @param filled the occupied squares
+     * @param lines  the lines to check
+     * @return the squares of all full lines
+     */
+    private static long fullLines(long filled, long[] lines) {
+        long full = 0L;
+        for (long line : lines) {
+            if ((filled & line) == line) {
+                full |= line;
+            }
+        }
+        return full;
+    }
+}
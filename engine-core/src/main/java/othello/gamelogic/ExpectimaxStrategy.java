@@ -0,0 +1,515 @@
+package othello.gamelogic;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Implements an Expectimax strategy for Othello game AI.
+ * Instead of assuming the opponent always plays its best move, the opponent is modelled as a probabilistic
+ * mover: it picks each move with a softmax probability over the static evaluation of the position the move
+ * leaves, from its own side. A low temperature makes it greedy, a high one makes it play at random.
+ * The value of an opponent node is the expected value over its moves.
+ *
+ * <p>Every score is bounded by {@code EVAL_BOUND}, so opponent (chance) nodes can be pruned:
+ * <ul>
+ *   <li>Star1: after some moves are searched, the unsearched ones are bounded by the score range, and the
+ *       node is cut off as soon as its expected value cannot reach the window. Each move is searched with
+ *       the window it needs for that.</li>
+ *   <li>Star2: before the full search, every move is probed by searching only the first reply of the player.
+ *       That gives a lower bound for each move, which tightens the Star1 bounds and can cut the node off
+ *       before any full search.</li>
+ * </ul>
+ * The search works on two bitboards passed by value and preallocated move buffers, so nothing is allocated
+ * per node. With a time budget it deepens until the time runs out.
+ */
+public class ExpectimaxStrategy implements Strategy {
+    private static final double DEFAULT_TEMPERATURE = 25.0;
+    // No score is outside [-EVAL_BOUND, EVAL_BOUND], which is what lets chance nodes prune
+    private static final int EVAL_BOUND;
+
+    static {
+        int bound = 0;
+        for (int[] row : Constants.BOARD_WEIGHTS) {
+            for (int weight : row) {
+                bound += Math.abs(weight);
+            }
+        }
+        EVAL_BOUND = bound;
+    }
+
+    private int MAX_DEPTH = 2;
+    private int nodesEvaluated = 0;  // Counter for node evaluations
+    private double temperature = DEFAULT_TEMPERATURE;
+    private boolean pruning = true;
+
+    // Time control: 0 means no budget (search to MAX_DEPTH)
+    private long timeBudgetMillis = 0;
+    private long deadline;
+    private boolean aborted;
+    private volatile boolean stopped;  // set by another thread to stop the search
+    private volatile BooleanSupplier stopCondition;  // checked along with stopped
+    private int completedDepth;
+    private double rootValue;
+    private SearchListener listener;
+
+    // Per-ply buffers, so nothing is allocated while searching: the moves of the node, their sort keys
+    // (static scores at the player's nodes, probabilities at the opponent's), the positions they lead to,
+    // and the Star2 lower bounds
+    private final int[][] moveBuffers = new int[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+    private final double[][] keyBuffers = new double[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+    private final long[][] playerBuffers = new long[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+    private final long[][] opponentBuffers = new long[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+    private final double[][] boundBuffers = new double[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+
+    /**
+     * Gets the number of nodes evaluated during the most recent move computation.
+     *
+     * @return the number of evaluated nodes
+     */
+    public int getNodesEvaluated() {
+        return nodesEvaluated;
+    }
+
+    /**
+     * Sets the depth searched below each root move when there is no time budget.
+     *
+     * @param maxDepth the maximum search depth, at least 0
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.MAX_DEPTH = maxDepth;
+    }
+
+    /**
+     * Sets the softmax temperature of the opponent model, in units of the static evaluation.
+     *
+     * @param temperature how random the opponent is assumed to be, greater than 0
+     */
+    public void setTemperature(double temperature) {
+        if (!(temperature > 0)) {
+            throw new IllegalArgumentException("Temperature must be positive: " + temperature);
+        }
+        this.temperature = temperature;
+    }
+
+    /**
+     * Sets the time budget for each move. With a budget, the search deepens until the time runs out
+     * instead of stopping at MAX_DEPTH.
+     *
+     * @param millis the wall-clock time per move in milliseconds, or 0 to search to a fixed depth
+     */
+    public void setTimeBudgetMillis(long millis) {
+        this.timeBudgetMillis = millis;
+    }
+
+    /**
+     * Returns the deepest search depth completed during the most recent move computation.
+     *
+     * @return the last completed depth, or -1 if no depth was completed
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Sets a listener that is told the best move after every completed depth.
+     *
+     * @param listener the listener, or null for none
+     */
+    @Override
+    public void setSearchListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Stops the search running on another thread, which then returns the best move of its last completed depth.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStopCondition(BooleanSupplier condition) {
+        this.stopCondition = condition;
+    }
+
+    /**
+     * Returns whether the search has been asked to stop, with {@link #stop()} or the stop condition.
+     *
+     * @return true if the search should return
+     */
+    private boolean isStopped() {
+        BooleanSupplier condition = stopCondition;
+        return stopped || condition != null && condition.getAsBoolean();
+    }
+
+    /**
+     * Turns the Star1 and Star2 pruning on or off. Pruning never changes the result, only the time taken.
+     *
+     * @param pruning true to prune chance nodes and use alpha-beta at the player's nodes
+     */
+    void setPruning(boolean pruning) {
+        this.pruning = pruning;
+    }
+
+    /**
+     * Returns the expected value of the best root move at the last completed depth.
+     *
+     * @return the root value, from the side of the player to move at the root
+     */
+    double getRootValue() {
+        return rootValue;
+    }
+
+    /**
+     * Selects the move with the highest expected value against the probabilistic opponent.
+     *
+     * @param board    the current board state
+     * @param player   the current player
+     * @param opponent the opposing player
+     * @return the selected move as a {@code BoardSpace}, or null if there is no legal move
+     * @throws IllegalArgumentException if the board is not 8x8, since the search runs on bitboards
+     */
+    @Override
+    public BoardSpace selectMove(BoardSpace[][] board, Player player, Player opponent) {
+        int square = bestMove(Bitboard.mask(board, player.getColor()), Bitboard.mask(board, opponent.getColor()));
+        if (square == Bitboard.PASS) {
+            return null;
+        }
+        return board[Bitboard.row(square)][Bitboard.col(square)];
+    }
+
+    /**
+     * Searches a position given as bitboards with iterative deepening and returns the best move.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the square of the best move, or {@link Bitboard#PASS} if there is no legal move
+     */
+    int bestMove(long player, long opponent) {
+        nodesEvaluated = 0;
+        completedDepth = -1;
+        stopped = false;
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            return Bitboard.PASS;
+        }
+        int maxDepth = MAX_DEPTH;
+        if (timeBudgetMillis > 0) {
+            // Deepening past the number of empty squares cannot find anything new
+            maxDepth = Long.bitCount(~(player | opponent));
+            deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        }
+        aborted = false;
+        int count = orderMoves(player, opponent, moves, 0);
+        int[] rootMoves = moveBuffers[0];
+        int bestSquare = rootMoves[0];
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            double best = Double.NEGATIVE_INFINITY;
+            int square = bestSquare;
+            for (int i = 0; i < count; i++) {
+                long flipped = Bitboard.flips(player, opponent, rootMoves[i]);
+                double value = chanceNode(opponent & ~flipped, player | flipped | (1L << rootMoves[i]), depth, 1,
+                        pruning ? best : Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+                if (aborted) {
+                    break;
+                }
+                if (value > best) {
+                    best = value;
+                    square = rootMoves[i];
+                }
+            }
+            if (aborted) {
+                break;  // fall back to the last completed depth
+            }
+            bestSquare = square;
+            rootValue = best;
+            completedDepth = depth;
+            moveToFront(rootMoves, count, bestSquare);  // search the best move first at the next depth
+            if (listener != null) {
+                listener.depthCompleted(depth, bestSquare, nodesEvaluated);
+            }
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Scores a node where the player of the root is to move: the best of its moves.
+     *
+     * @param player   the discs of the root player, who is to move
+     * @param opponent the discs of the opponent
+     * @param depth    the remaining search depth
+     * @param ply      the distance from the root, which selects the buffers
+     * @param alpha    the lower bound of the window
+     * @param beta     the upper bound of the window
+     * @return the value from the root player's side; outside the window it is only a bound
+     */
+    private double maxNode(long player, long opponent, int depth, int ply, double alpha, double beta) {
+        if (countNode()) {
+            return 0;  // the result is thrown away, just unwind
+        }
+        if (depth == 0) {
+            return Bitboard.evaluate(player, opponent);
+        }
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            if (Bitboard.legalMoves(opponent, player) == 0) {
+                return finalScore(player, opponent);
+            }
+            return chanceNode(opponent, player, depth - 1, ply + 1, alpha, beta);
+        }
+        int count = orderMoves(player, opponent, moves, ply);
+        int[] buffer = moveBuffers[ply];
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int square = buffer[i];
+            long flipped = Bitboard.flips(player, opponent, square);
+            double value = chanceNode(opponent & ~flipped, player | flipped | (1L << square), depth - 1, ply + 1,
+                    Math.max(alpha, best), beta);
+            if (value > best) {
+                best = value;
+                if (best >= beta) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a node where the opponent is to move: the expected value of its moves under the softmax model.
+     *
+     * @param opponent the discs of the opponent, who is to move
+     * @param player   the discs of the root player
+     * @param depth    the remaining search depth
+     * @param ply      the distance from the root, which selects the buffers
+     * @param alpha    the lower bound of the window
+     * @param beta     the upper bound of the window
+     * @return the value from the root player's side; outside the window it is only a bound
+     */
+    private double chanceNode(long opponent, long player, int depth, int ply, double alpha, double beta) {
+        if (countNode()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return Bitboard.evaluate(player, opponent);
+        }
+        long moves = Bitboard.legalMoves(opponent, player);
+        if (moves == 0) {
+            if (Bitboard.legalMoves(player, opponent) == 0) {
+                return finalScore(player, opponent);
+            }
+            return maxNode(player, opponent, depth - 1, ply + 1, alpha, beta);
+        }
+        int count = probabilities(opponent, player, moves, ply);
+        double[] probs = keyBuffers[ply];
+        long[] players = playerBuffers[ply];
+        long[] opponents = opponentBuffers[ply];
+        if (!pruning) {
+            double sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += probs[i] * maxNode(players[i], opponents[i], depth - 1, ply + 1,
+                        Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            }
+            return sum;
+        }
+
+        // Star2: probe each move for a lower bound, stopping early once the bounds alone reach beta
+        double[] lower = boundBuffers[ply];
+        double lowerSum = 0;  // sum of p * lower bound over all moves
+        for (int i = 0; i < count; i++) {
+            lower[i] = -EVAL_BOUND;
+            lowerSum -= probs[i] * EVAL_BOUND;
+        }
+        if (depth >= 2) {
+            for (int i = 0; i < count; i++) {
+                // The probe must beat this for the bounds to reach beta, given the bounds so far
+                double probeBeta = (beta - (lowerSum - probs[i] * lower[i])) / probs[i];
+                double bound = probe(players[i], opponents[i], depth - 1, ply + 1, probeBeta);
+                if (bound > lower[i]) {
+                    lowerSum += probs[i] * (bound - lower[i]);
+                    lower[i] = bound;
+                }
+                if (lowerSum >= beta) {
+                    return lowerSum;
+                }
+            }
+        }
+
+        // Star1: search each move with the window that can still change the outcome
+        double sum = 0;        // sum of p * value over the searched moves
+        double remaining = 1;  // probability of the unsearched moves
+        for (int i = 0; i < count; i++) {
+            double p = probs[i];
+            remaining -= p;
+            lowerSum -= p * lower[i];  // now over the moves after this one
+            double childAlpha = (alpha - sum - remaining * EVAL_BOUND) / p;
+            double childBeta = (beta - sum - lowerSum) / p;
+            double value = maxNode(players[i], opponents[i], depth - 1, ply + 1,
+                    Math.max(childAlpha, lower[i]), Math.min(childBeta, EVAL_BOUND));
+            if (value <= childAlpha) {
+                return sum + p * value + remaining * EVAL_BOUND;  // even the best case stays below alpha
+            }
+            if (value >= childBeta) {
+                return sum + p * value + lowerSum;  // even the worst case stays above beta
+            }
+            // A fail-low against the probe bound means the value is the bound
+            sum += p * Math.max(value, lower[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * The Star2 probe of a move of the opponent: searches only the first reply of the root player,
+     * which gives a lower bound on the value of the position.
+     *
+     * @param player   the discs of the root player, who is to move
+     * @param opponent the discs of the opponent
+     * @param depth    the remaining search depth
+     * @param ply      the distance from the root
+     * @param beta     the bound that is enough for a cutoff
+     * @return a lower bound on the value of the position
+     */
+    private double probe(long player, long opponent, int depth, int ply, double beta) {
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            return -EVAL_BOUND;  // no cheap bound for a pass
+        }
+        orderMoves(player, opponent, moves, ply);
+        int square = moveBuffers[ply][0];
+        long flipped = Bitboard.flips(player, opponent, square);
+        // A full window below, so a result under beta is the exact value of the reply and a valid bound
+        return chanceNode(opponent & ~flipped, player | flipped | (1L << square), depth - 1, ply + 1,
+                -EVAL_BOUND, beta);
+    }
+
+    /**
+     * Sorts the moves of the root player into the buffer of a ply, the best static score first.
+     *
+     * @param player   the discs of the root player, who is to move
+     * @param opponent the discs of the opponent
+     * @param moves    the legal moves
+     * @param ply      the distance from the root
+     * @return the number of moves
+     */
+    private int orderMoves(long player, long opponent, long moves, int ply) {
+        int[] buffer = moveBuffers[ply];
+        double[] keys = keyBuffers[ply];
+        int count = 0;
+        while (moves != 0) {
+            int square = Long.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+            long flipped = Bitboard.flips(player, opponent, square);
+            double key = Bitboard.evaluate(player | flipped | (1L << square), opponent & ~flipped);
+            count = insert(buffer, keys, count, square, key);
+        }
+        return count;
+    }
+
+    /**
+     * Computes the softmax probabilities of the opponent's moves and stores them, with the positions the
+     * moves lead to, in the buffers of a ply, the most likely move first.
+     *
+     * @param opponent the discs of the opponent, who is to move
+     * @param player   the discs of the root player
+     * @param moves    the opponent's legal moves
+     * @param ply      the distance from the root
+     * @return the number of moves
+     */
+    private int probabilities(long opponent, long player, long moves, int ply) {
+        int[] buffer = moveBuffers[ply];
+        double[] keys = keyBuffers[ply];
+        int count = 0;
+        double maxScore = Double.NEGATIVE_INFINITY;
+        for (long m = moves; m != 0; m &= m - 1) {
+            int square = Long.numberOfTrailingZeros(m);
+            long flipped = Bitboard.flips(opponent, player, square);
+            double score = Bitboard.evaluate(opponent | flipped | (1L << square), player & ~flipped);
+            maxScore = Math.max(maxScore, score);
+            count = insert(buffer, keys, count, square, score);
+        }
+        // Subtracting the highest score keeps exp() from overflowing
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            keys[i] = Math.exp((keys[i] - maxScore) / temperature);
+            total += keys[i];
+        }
+        long[] players = playerBuffers[ply];
+        long[] opponents = opponentBuffers[ply];
+        for (int i = 0; i < count; i++) {
+            keys[i] /= total;
+            long flipped = Bitboard.flips(opponent, player, buffer[i]);
+            opponents[i] = opponent | flipped | (1L << buffer[i]);
+            players[i] = player & ~flipped;
+        }
+        return count;
+    }
+
+    /**
+     * Inserts a move into a sorted buffer, highest key first; equal keys keep the square order.
+     *
+     * @param buffer the moves
+     * @param keys   the sort keys
+     * @param count  the number of moves in the buffer
+     * @param square the move to insert
+     * @param key    its sort key
+     * @return the new number of moves
+     */
+    private static int insert(int[] buffer, double[] keys, int count, int square, double key) {
+        int j = count - 1;
+        while (j >= 0 && keys[j] < key) {
+            buffer[j + 1] = buffer[j];
+            keys[j + 1] = keys[j];
+            j--;
+        }
+        buffer[j + 1] = square;
+        keys[j + 1] = key;
+        return count + 1;
+    }
+
+    /**
+     * Moves a square to the front of a move list, keeping the order of the others.
+     *
+     * @param moves  the moves
+     * @param count  the number of moves
+     * @param square the square to move to the front
+     */
+    private static void moveToFront(int[] moves, int count, int square) {
+        int i = 0;
+        while (moves[i] != square) {
+            i++;
+        }
+        for (; i > 0; i--) {
+            moves[i] = moves[i - 1];
+        }
+        moves[0] = square;
+    }
+
+    /**
+     * Scores a finished game at the edge of the score range, so a win is worth more than any position.
+     *
+     * @param player   the discs of the root player
+     * @param opponent the discs of the opponent
+     * @return EVAL_BOUND for a win, -EVAL_BOUND for a loss, 0 for a draw
+     */
+    private static double finalScore(long player, long opponent) {
+        return Integer.signum(Long.bitCount(player) - Long.bitCount(opponent)) * EVAL_BOUND;
+    }
+
+    /**
+     * Counts a node and checks for a stop and the clock every 1024 nodes. The clock is never checked
+     * before depth 0 is done.
+     *
+     * @return true if the search has been stopped or has run out of time
+     */
+    private boolean countNode() {
+        nodesEvaluated++;
+        if ((nodesEvaluated & 1023) == 0 && (isStopped() || timeBudgetMillis > 0 && completedDepth >= 0
+                && System.nanoTime() >= deadline)) {
+            aborted = true;
+        }
+        return aborted;
+    }
+}
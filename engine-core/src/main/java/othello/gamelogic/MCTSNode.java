@@ -0,0 +1,237 @@
+package othello.gamelogic;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a node in the Monte Carlo Tree Search (MCTS) algorithm.
+ * Each node holds a snapshot of the board state, its parent and children,
+ * the move that led to this state, and statistics for backpropagation.
+ * Nodes built by the search keep their position as two bitboards (player to move and opponent),
+ * so the tree can be descended without copying any {@code BoardSpace[][]}.
+ * Wins are always counted for the player the search was run for (the root player).
+ * The counters are atomic and the list of children is published once it is complete,
+ * so several threads can search the same tree.
+ */
+
+public class MCTSNode {
+    /** The board state associated with this node. */
+    private BoardSpace[][] board;
+    /** Number of simulation wins for this node. */
+    private final AtomicInteger wins;
+    /** Number of times this node has been visited. */
+    private final AtomicInteger visits;
+    /** List of child nodes representing possible future game states. */
+    private volatile List<MCTSNode> children;
+    /** The parent node of this node. */
+    private MCTSNode parent;
+    /** The move that was taken to arrive at this node from its parent. */
+    private BoardSpace move; // The move that led to this node
+    /** Square index of the move that led to this node, or {@link Bitboard#PASS}. */
+    private final int square;
+    /** Discs of the player to move at this node. */
+    private final long player;
+    /** Discs of the other player at this node. */
+    private final long opponent;
+    /** Whether the root player is the one to move at this node. */
+    private final boolean rootToMove;
+
+    /**
+     * Constructs a new MCTSNode with the given board state, parent, and move.
+     *
+     * @param board the board state at this node
+     * @param parent the parent node (null if this is the root)
+     * @param move the move that led to this node (null if this is the root)
+     */
+    public MCTSNode(BoardSpace[][] board, MCTSNode parent, BoardSpace move) {
+        this.board = board;
+        this.parent = parent;
+        this.move = move;
+        this.wins = new AtomicInteger();
+        this.visits = new AtomicInteger();
+        this.children = new ArrayList<>();
+        this.square = Bitboard.PASS;
+        this.player = 0L;
+        this.opponent = 0L;
+        this.rootToMove = true;
+    }
+
+    /**
+     * Constructs a new MCTSNode holding its position as bitboards.
+     *
+     * @param parent the parent node (null if this is the root)
+     * @param move the BoardSpace of the move that led to this node, or null if not needed
+     * @param square the square index of the move that led to this node, or {@link Bitboard#PASS}
+     * @param player the discs of the player to move at this node
+     * @param opponent the discs of the other player
+     * @param rootToMove whether the root player is the one to move at this node
+     */
+    public MCTSNode(MCTSNode parent, BoardSpace move, int square, long player, long opponent, boolean rootToMove) {
+        this.board = null;
+        this.parent = parent;
+        this.move = move;
+        this.wins = new AtomicInteger();
+        this.visits = new AtomicInteger();
+        this.children = new ArrayList<>();
+        this.square = square;
+        this.player = player;
+        this.opponent = opponent;
+        this.rootToMove = rootToMove;
+    }
+
+    /**
+     * Adds a child node to this node.
+     *
+     * @param child the child node to add
+     */
+    public void addChild(MCTSNode child) {
+        children.add(child);
+    }
+
+    /**
+     * Returns the list of child nodes.
+     *
+     * @return a list of children of this node
+     */
+    public List<MCTSNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * Replaces the children of this node with a complete list. Threads that read the children
+     * afterwards see the whole list, so the list must not be modified once it is set.
+     *
+     * @param children the child nodes
+     */
+    void setChildren(List<MCTSNode> children) {
+        this.children = children;
+    }
+
+    /**
+     * Returns the number of wins at this node.
+     *
+     * @return number of wins
+     */
+    public int getWins() {
+        return wins.get();
+    }
+
+    /**
+     * Returns the number of times this node has been visited.
+     *
+     * @return number of visits
+     */
+    public int getVisits() {
+        return visits.get();
+    }
+
+    /**
+     * Increments the number of wins by 1.
+     */
+    public void incrementWins() {
+        wins.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of visits by 1.
+     */
+    public void incrementVisits() {
+        visits.incrementAndGet();
+    }
+
+    /**
+     * Counts a visit in advance, as if the simulation through this node had been lost by the
+     * player who chose it. Other threads then prefer different branches until the result is known.
+     *
+     * @param rootWins whether the loss for the choosing player is a win for the root player
+     */
+    void addVirtualLoss(boolean rootWins) {
+        visits.incrementAndGet();
+        if (rootWins) {
+            wins.incrementAndGet();
+        }
+    }
+
+    /**
+     * Replaces a virtual loss by the real result of the simulation. The visit is already counted.
+     *
+     * @param rootWins the value passed to {@link #addVirtualLoss(boolean)}
+     * @param win whether the simulation was a win for the root player
+     */
+    void revertVirtualLoss(boolean rootWins, boolean win) {
+        if (win != rootWins) {
+            wins.addAndGet(win ? 1 : -1);
+        }
+    }
+
+    /**
+     * Returns the board state at this node.
+     *
+     * @return a 2D array representing the board, or null for a node that only holds bitboards
+     */
+    public BoardSpace[][] getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the parent of this node.
+     *
+     * @return the parent MCTSNode
+     */
+    public MCTSNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Detaches this node from its parent, so it can become the root of a reused tree.
+     */
+    void detach() {
+        parent = null;
+    }
+
+    /**
+     * Returns the move that led to this node from its parent.
+     *
+     * @return the BoardSpace representing the move
+     */
+    public BoardSpace getMove() {
+        return move;
+    }
+
+    /**
+     * Returns the square index of the move that led to this node.
+     *
+     * @return the square index, or {@link Bitboard#PASS}
+     */
+    public int getSquare() {
+        return square;
+    }
+
+    /**
+     * Returns the discs of the player to move at this node.
+     *
+     * @return the player bitboard
+     */
+    public long getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the discs of the other player at this node.
+     *
+     * @return the opponent bitboard
+     */
+    public long getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Returns whether the root player is the one to move at this node.
+     *
+     * @return true if the root player moves next
+     */
+    public boolean isRootToMove() {
+        return rootToMove;
+    }
+}
@@ -0,0 +1,625 @@
+package othello.gamelogic;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Implements a Monte Carlo Tree Search (MCTS) strategy for selecting the best move in an Othello game.
+ * The search can run on several threads, either as independent trees merged at the root
+ * or as one shared tree using virtual loss. It runs a fixed number of iterations by default,
+ * or until a time budget runs out, and stops early once the choice of move can no longer change.
+ */
+public class MCTSStrategy implements Strategy{
+//    private static final double EXPLORATION_PARAM = Math.sqrt(2);
+    private static final double NUM_ITERATION = 100;
+
+    /**
+     * How the search is spread over threads.
+     */
+    public enum Parallelism {
+        /** A single tree searched on the calling thread. */
+        NONE,
+        /** One independent tree per thread; the statistics of the root moves are summed at the end. */
+        ROOT,
+        /** One tree shared by all threads, with virtual loss to send them down different branches. */
+        TREE
+    }
+
+    // How often (in iterations) a thread checks the clock and the early stop
+    private static final int CHECK_INTERVAL = 16;
+
+    private Parallelism parallelism = Parallelism.NONE;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Search limits: 0 means the default (NUM_ITERATION without a time budget, unlimited with one)
+    private int maxIterations = 0;
+    private long timeBudgetMillis = 0;
+    private long iterations;
+    private int reusedVisits;  // visits the root already had when the last search started
+    private double iterationsPerSecond;
+    private volatile boolean stopped;  // set by another thread to stop the search
+    private volatile BooleanSupplier stopCondition;  // checked along with stopped
+
+    // The node of the move played last turn; its children are the opponent's replies,
+    // one of which becomes the next root
+    private MCTSNode reusableRoot;
+    private BoardSpace.SpaceType reusableColor;
+
+    /**
+     * Sets how the search is spread over threads. Defaults to {@link Parallelism#NONE}.
+     *
+     * @param parallelism the parallel mode
+     */
+    public void setParallelism(Parallelism parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the number of threads used by the parallel modes. Defaults to the number of available processors.
+     * Every thread runs the full number of iterations, so more threads search more in the same time.
+     *
+     * @param threads the number of threads, at least 1
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the maximum number of iterations each thread runs per move.
+     *
+     * @param maxIterations the iteration cap, or 0 for the default
+     */
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Sets the time budget for each move. With a budget, the search runs until the time runs out
+     * unless an iteration cap set with {@link #setMaxIterations(int)} is reached first.
+     *
+     * @param millis the wall-clock time per move in milliseconds, or 0 for no budget
+     */
+    public void setTimeBudgetMillis(long millis) {
+        this.timeBudgetMillis = millis;
+    }
+
+    /**
+     * Returns the number of iterations run during the most recent move computation, over all threads.
+     *
+     * @return the number of iterations
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the visits the root already had when the most recent search started: above 0 when the subtree
+     * kept from the previous turn was reused, 0 when the search started from a new root.
+     *
+     * @return the visits of the root before the search
+     */
+    int getReusedVisits() {
+        return reusedVisits;
+    }
+
+    /**
+     * Returns the search speed of the most recent move computation, over all threads.
+     *
+     * @return iterations per second
+     */
+    public double getIterationsPerSecond() {
+        return iterationsPerSecond;
+    }
+
+    /**
+     * Stops the search running on another thread, which then plays the most visited move so far.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStopCondition(BooleanSupplier condition) {
+        this.stopCondition = condition;
+    }
+
+    /**
+     * Returns whether the search has been asked to stop, with {@link #stop()} or the stop condition.
+     *
+     * @return true if the search should return
+     */
+    private boolean isStopped() {
+        BooleanSupplier condition = stopCondition;
+        return stopped || condition != null && condition.getAsBoolean();
+    }
+
+    /**
+     * Selects the next move using Monte Carlo Tree Search (MCTS).
+     * Each iteration descends the tree from the root using the positions stored in the nodes,
+     * so the tree grows as deep as the simulations justify. The subtree below the chosen move is kept,
+     * and the opponent's reply within it becomes the root of the next search.
+     * The move played is the most visited child of the root.
+     *
+     * @param board The current board state.
+     * @param player The player making the move.
+     * @param opponent The opponent player.
+     * @return The selected move (BoardSpace) based on simulation results, or null if there is none.
+     * @throws IllegalArgumentException if the board is not 8x8, since the search runs on bitboards
+     */
+    @Override
+    public BoardSpace selectMove(BoardSpace[][] board, Player player, Player opponent) {
+        stopped = false;
+        long own = Bitboard.mask(board, player.getColor());
+        long opp = Bitboard.mask(board, opponent.getColor());
+        if (Bitboard.legalMoves(own, opp) == 0) {
+            reusableRoot = null;
+            return null;
+        }
+        long start = System.nanoTime();
+        long deadline = timeBudgetMillis > 0 ? start + timeBudgetMillis * 1_000_000L : Long.MAX_VALUE;
+        AtomicLong counter = new AtomicLong();
+        reusedVisits = 0;
+        int square;
+        if (parallelism == Parallelism.ROOT) {
+            //independent trees are thrown away after the move
+            reusableRoot = null;
+            square = rootParallelSearch(own, opp, start, deadline, counter);
+        } else {
+            //make a rootNode, or reuse the subtree of last turn
+            MCTSNode root = reuseRoot(own, opp, player.getColor());
+            reusedVisits = root.getVisits();
+            if (parallelism == Parallelism.TREE) {
+                runOnThreads(() -> counter.addAndGet(search(root, true, threads, start, deadline)));
+            } else {
+                //1.iterations: training part
+                counter.addAndGet(search(root, false, 1, start, deadline));
+            }
+            //2. pick the most visited child and keep its subtree for the next turn
+            MCTSNode best = mostVisitedChild(root);
+            reusableRoot = best;
+            square = best.getSquare();
+        }
+        iterations = counter.get();
+        iterationsPerSecond = iterations / Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+        return board[Bitboard.row(square)][Bitboard.col(square)];
+    }
+
+    /**
+     * Runs iterations on one thread until the iteration cap or the deadline is reached, the search is stopped,
+     * or until the most visited child of the root can no longer be overtaken.
+     *
+     * @param root The root of the tree.
+     * @param shared Whether the tree is shared with other threads.
+     * @param searchers The number of threads searching this tree.
+     * @param start The time the search started, from System.nanoTime().
+     * @param deadline The time at which the search must stop, from System.nanoTime().
+     * @return the number of iterations this thread ran
+     */
+    private int search(MCTSNode root, boolean shared, int searchers, long start, long deadline) {
+        int cap = maxIterations > 0 ? maxIterations
+                : timeBudgetMillis > 0 ? Integer.MAX_VALUE : (int) NUM_ITERATION;
+        int done = 0;
+        while (done < cap) {
+            if (done % CHECK_INTERVAL == 0 && done > 0) {
+                long now = System.nanoTime();
+                if (isStopped() || now >= deadline) {
+                    break;
+                }
+                //estimate how many iterations are left, from the cap and from the speed so far
+                long remaining = cap - done;
+                if (deadline != Long.MAX_VALUE) {
+                    remaining = Math.min(remaining, (long) ((double) done * (deadline - now) / (now - start)));
+                }
+                if (isDecided(root, remaining * searchers)) {
+                    break;
+                }
+            }
+            if (shared) {
+                sharedIteration(root);
+            } else {
+                iteration(root);
+            }
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * Checks whether the most visited child of a node stays the most visited whatever the remaining iterations do.
+     *
+     * @param node The root of the search.
+     * @param remaining The number of iterations left.
+     * @return true if no other child can catch up with the most visited one
+     */
+    private boolean isDecided(MCTSNode node, long remaining) {
+        if (node.getChildren().size() <= 1) {
+            return true;  //a forced move needs no more simulations
+        }
+        int most = 0;
+        int second = 0;
+        for (MCTSNode child : node.getChildren()) {
+            int visits = child.getVisits();
+            if (visits > most) {
+                second = most;
+                most = visits;
+            } else if (visits > second) {
+                second = visits;
+            }
+        }
+        return most - second > remaining;
+    }
+
+    /**
+     * Runs one selection, expansion, simulation and backpropagation step on a tree owned by this thread.
+     *
+     * @param root The root of the tree.
+     */
+    private void iteration(MCTSNode root) {
+        //selection: descend as long as the node has been expanded
+        MCTSNode selectedNode = root;
+        while (!selectedNode.getChildren().isEmpty()) {
+            selectedNode = findBestUCT(selectedNode);
+        }
+        MCTSNode expandNode = expansion(selectedNode);
+        boolean win = simulation(expandNode);
+        backPropagation(win, expandNode);
+    }
+
+    /**
+     * Runs one iteration on a tree shared with other threads. Every node on the way down gets a virtual loss,
+     * which is replaced by the real result once the simulation is done.
+     *
+     * @param root The root of the shared tree.
+     */
+    private void sharedIteration(MCTSNode root) {
+        MCTSNode selectedNode = root;
+        while (!selectedNode.getChildren().isEmpty()) {
+            selectedNode = findBestUCT(selectedNode);
+            //a node is chosen by the player moving at its parent, the opposite of who moves at the node
+            selectedNode.addVirtualLoss(selectedNode.isRootToMove());
+        }
+        MCTSNode expandNode;
+        synchronized (selectedNode) {
+            //another thread may have expanded the leaf in the meantime
+            if (selectedNode.getChildren().isEmpty()) {
+                expandNode = expansion(selectedNode);
+            } else {
+                expandNode = randomChild(selectedNode);
+            }
+        }
+        if (expandNode != selectedNode) {
+            expandNode.addVirtualLoss(expandNode.isRootToMove());
+        }
+        boolean win = simulation(expandNode);
+        for (MCTSNode node = expandNode; node != root; node = node.getParent()) {
+            node.revertVirtualLoss(node.isRootToMove(), win);
+        }
+        root.incrementVisits();
+        if (win) {
+            root.incrementWins();
+        }
+    }
+
+    /**
+     * Searches one independent tree per thread and sums the statistics of the root moves.
+     *
+     * @param own The discs of the player to move.
+     * @param opp The discs of the opponent.
+     * @param start The time the search started, from System.nanoTime().
+     * @param deadline The time at which the search must stop, from System.nanoTime().
+     * @param counter Collects the number of iterations of all threads.
+     * @return the square index of the move with the most visits over all trees
+     */
+    private int rootParallelSearch(long own, long opp, long start, long deadline, AtomicLong counter) {
+        int[] wins = new int[Bitboard.NUM_SQUARES];
+        int[] visits = new int[Bitboard.NUM_SQUARES];
+        runOnThreads(() -> {
+            MCTSNode root = new MCTSNode(null, null, Bitboard.PASS, own, opp, true);
+            counter.addAndGet(search(root, false, 1, start, deadline));
+            synchronized (wins) {
+                for (MCTSNode child : root.getChildren()) {
+                    wins[child.getSquare()] += child.getWins();
+                    visits[child.getSquare()] += child.getVisits();
+                }
+            }
+        });
+        int bestSquare = Bitboard.PASS;
+        for (int square = 0; square < Bitboard.NUM_SQUARES; square++) {
+            if (visits[square] == 0) {
+                continue;
+            }
+            //ties on visits go to the better win rate
+            if (bestSquare == Bitboard.PASS || visits[square] > visits[bestSquare]
+                    || (visits[square] == visits[bestSquare]
+                        && wins[square] / (double) visits[square] > wins[bestSquare] / (double) visits[bestSquare])) {
+                bestSquare = square;
+            }
+        }
+        return bestSquare;
+    }
+
+    /**
+     * Runs a task on the configured number of threads, one of which is the calling thread,
+     * and waits for all of them to finish.
+     *
+     * @param task The task each thread runs.
+     */
+    private void runOnThreads(Runnable task) {
+        Thread[] workers = new Thread[threads - 1];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(task, "mcts-worker-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        task.run();
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the root for a new search: the node of the opponent's reply below the move played last turn
+     * if the position matches it, or a fresh node otherwise.
+     *
+     * @param own The discs of the player to move.
+     * @param opp The discs of the opponent.
+     * @param color The color of the player to move.
+     * @return the root node, detached from its old parent
+     */
+    private MCTSNode reuseRoot(long own, long opp, BoardSpace.SpaceType color) {
+        MCTSNode previous = reusableRoot;
+        reusableRoot = null;
+        if (previous != null && color == reusableColor) {
+            for (MCTSNode reply : previous.getChildren()) {
+                if (reply.getPlayer() == own && reply.getOpponent() == opp) {
+                    reply.detach();
+                    return reply;
+                }
+            }
+        }
+        reusableColor = color;
+        return new MCTSNode(null, null, Bitboard.PASS, own, opp, true);
+    }
+
+    /**
+     * Chooses the best move from the children of a node based on the highest win rate.
+     *
+     * @param node The root node whose children will be evaluated.
+     * @return The BoardSpace move with the highest win rate.
+     */
+     BoardSpace bestMove(MCTSNode node){  //error 1.was using UCT score to do the final move selection
+        double highestWinRate = Double.NEGATIVE_INFINITY;
+        MCTSNode bestNode = null;
+
+        for (MCTSNode child : node.getChildren()) {
+            if(child.getVisits() == 0){  //1.skip the ones that are not visited
+                continue;
+            }
+            double winRate = child.getWins() / (double)child.getVisits();
+            if(winRate > highestWinRate){
+                highestWinRate = winRate;
+                bestNode = child;
+            }
+        }
+        return bestNode.getMove();
+    }
+
+    /**
+     * Chooses the child of a node with the most visits, breaking ties by win rate.
+     * Unlike the win rate alone, the visit count is not thrown off by a child that was lucky in a few simulations.
+     *
+     * @param node The node whose children will be evaluated.
+     * @return The most visited child.
+     */
+    private MCTSNode mostVisitedChild(MCTSNode node){
+        MCTSNode bestNode = null;
+        for (MCTSNode child : node.getChildren()) {
+            if (bestNode == null || child.getVisits() > bestNode.getVisits()
+                    || (child.getVisits() == bestNode.getVisits()
+                        && child.getWins() > bestNode.getWins())) {
+                bestNode = child;
+            }
+        }
+        return bestNode;
+    }
+
+    /**
+     * Finds the best child node using the Upper Confidence Bound for Trees (UCT) formula.
+     * Wins are counted for the root player, so at nodes where the opponent moves the win rate is inverted.
+     *
+     * @param node The node whose children will be evaluated.
+     * @return The child node with the highest UCT value.
+     */
+   MCTSNode findBestUCT(MCTSNode node) {
+        MCTSNode bestNode = null;  //1.more conform to convention if we set node to the first child
+        double bestUCT = Double.NEGATIVE_INFINITY;
+
+        for (MCTSNode child : node.getChildren()) {
+            double cur_UCT;
+            //question: when parent visit == 0, randomly choose a child, is that a valid strategy?
+            if(child.getVisits() == 0 || node.getVisits() == 0){ //1.debug: node has a visit of 0, which results in cur_UCT being NaN，the whole thing crash
+                cur_UCT = Double.POSITIVE_INFINITY; //error：when visits is 0, make its uct infinity，since we want to prioritize exploring unvisited spaces
+            } else {
+            double winRate = child.getWins() / (double)child.getVisits();
+            if (!node.isRootToMove()) {
+                winRate = 1 - winRate;
+            }
+            cur_UCT = winRate + Constants.EXPLORATION_PARAM * Math.sqrt(Math.log(node.getVisits())/(double)child.getVisits());
+            }
+            if(cur_UCT > bestUCT || bestNode == null){
+                bestUCT = cur_UCT;
+                bestNode = child;
+            }
+        }
+        return bestNode == null? node:bestNode;
+    }
+
+    /**
+     * Expands the given node by generating all valid moves for the current player.
+     *
+     * @param node The node to expand.
+     * @param board The current game board.
+     * @param player The player making the move.
+     * @param opponent The opponent player.
+     * @return A randomly selected child node from the newly created children.
+     */
+    MCTSNode expansion(MCTSNode node, BoardSpace[][] board, Player player, Player opponent) {
+        long own = Bitboard.mask(board, player.getColor());
+        long opp = Bitboard.mask(board, opponent.getColor());
+        addChildren(node, own, opp, board);
+        return randomChild(node);
+    }
+
+    /**
+     * Expands a node built by the search from its own bitboards.
+     *
+     * @param node The node to expand.
+     * @return A randomly selected child node, or the node itself if the game is over there.
+     */
+    private MCTSNode expansion(MCTSNode node) {
+        addChildren(node, node.getPlayer(), node.getOpponent(), null);
+        return randomChild(node);
+    }
+
+    /**
+     * Adds a child for every legal move of the player to move. If that player has to pass
+     * while the opponent can still move, a single pass child is added instead.
+     *
+     * @param node The node to expand.
+     * @param own The discs of the player to move.
+     * @param opp The discs of the opponent.
+     * @param board The board the moves are taken from, or null to leave the children's moves unset.
+     */
+    private void addChildren(MCTSNode node, long own, long opp, BoardSpace[][] board) {
+        long availableMoves = Bitboard.legalMoves(own, opp);
+        //build the list first and publish it complete, so threads sharing the tree never see it half-filled
+        List<MCTSNode> children = new ArrayList<>(Long.bitCount(availableMoves));
+        if (availableMoves == 0) {
+            if (Bitboard.legalMoves(opp, own) != 0) {
+                children.add(new MCTSNode(node, null, Bitboard.PASS, opp, own, !node.isRootToMove()));
+                node.setChildren(children);
+            }
+            return;
+        }
+        while (availableMoves != 0) {
+            int square = Long.numberOfTrailingZeros(availableMoves);
+            availableMoves &= availableMoves - 1;
+            long flipped = Bitboard.flips(own, opp, square);
+            BoardSpace move = board == null ? null : board[Bitboard.row(square)][Bitboard.col(square)];
+            //the child holds the position with the opponent to move
+            children.add(new MCTSNode(node, move, square, opp & ~flipped, own | flipped | (1L << square),
+                    !node.isRootToMove()));
+        }
+        node.setChildren(children);
+    }
+
+    /**
+     * Returns a random child of a node.
+     *
+     * @param node The node to pick from.
+     * @return A random child, or the node itself if it has none.
+     */
+    private MCTSNode randomChild(MCTSNode node) {
+        if(node.getChildren().isEmpty()){
+            return node;
+        }
+        return  node.getChildren().get(ThreadLocalRandom.current().nextInt(node.getChildren().size()));
+    }
+
+    /**
+     * Simulates a random playout from the given node to a terminal game state.
+     * The playout runs on bitboards, so the board passed in is never modified.
+     *
+     * @param node The node from which simulation starts.
+     * @param board The current board state.
+     * @param player The player being simulated.
+     * @param opponent The opponent player.
+     * @return True if the simulation results in a win for the player; false otherwise.
+     */
+    boolean simulation(MCTSNode node, BoardSpace[][] board, Player player, Player opponent){
+        return playout(Bitboard.mask(board, player.getColor()), Bitboard.mask(board, opponent.getColor()), true);
+    }
+
+    /**
+     * Simulates a random playout from the position stored in a node built by the search.
+     *
+     * @param node The node from which simulation starts.
+     * @return True if the simulation results in a win for the root player; false otherwise.
+     */
+    private boolean simulation(MCTSNode node) {
+        return playout(node.getPlayer(), node.getOpponent(), node.isRootToMove());
+    }
+
+    /**
+     * Plays random moves on bitboards until the game is over, using the playout engine of this thread.
+     *
+     * @param current The discs of the player to move.
+     * @param other The discs of the other player.
+     * @param playerTurn Whether the player to move is the root player.
+     * @return True if the root player wins the playout; false otherwise.
+     */
+    private boolean playout(long current, long other, boolean playerTurn) {
+        RandomPlayout engine = RandomPlayout.current();
+        engine.play(current, other);
+        //returning whether we win, from the root player's side of the final position
+        return playerTurn ? evaluateBoard(engine.getPlayer(), engine.getOpponent())
+                : evaluateBoard(engine.getOpponent(), engine.getPlayer());
+    }
+
+    /**
+     * Propagates the simulation result back up the tree by updating visit and win counts.
+     *
+     * @param win True if the simulation was a win for the original player.
+     * @param expandNode The node from which propagation starts.
+     */
+    void backPropagation(boolean win, MCTSNode expandNode) {
+        MCTSNode node = expandNode;
+
+        while (node != null) {
+            node.incrementVisits();
+            if (win) {  //1.optimization: dry code
+                node.incrementWins();
+            }
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Evaluates the board and determines whether the current player has a higher score.
+     *
+     * @param player The discs of the player to evaluate score for.
+     * @param opponent The discs of the opponent player.
+     * @return True if the player's score is higher than the opponent's; false otherwise.
+     */
+    private boolean evaluateBoard(long player, long opponent){
+        return Bitboard.evaluate(player, opponent) > 0;
+    }
+
+    /**
+     * Checks whether the game has reached a terminal state (no more valid moves).
+     *
+     * @param board The current board state.
+     * @param player The current player.
+     * @param opponent The opponent player.
+     * @return True if the game is over; false otherwise.
+     */
+   boolean isTerminal(BoardSpace[][] board, Player player, Player opponent){
+        long own = Bitboard.mask(board, player.getColor());
+        long opp = Bitboard.mask(board, opponent.getColor());
+        //a full board has no legal moves for either side, so one check covers both cases
+        return Bitboard.isGameOver(own, opp);
+    }
+}
@@ -0,0 +1,298 @@
+package othello.gamelogic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implements a Minimax strategy for Othello game AI.
+ * Evaluates future board states recursively up to a certain depth and selects the optimal move.
+ * A {@link TranspositionTable} can optionally be shared in; since this is a plain minimax, only
+ * exact scores of the same depth are reused, so the chosen move never changes because of the table.
+ *
+ * <p>With a {@link ForkJoinPool} set, the root moves are searched in parallel, and every subtree with at least
+ * the split depth left is split again into one task per move. Without pruning the subtrees are independent,
+ * so the move is the same as the sequential search, and so is the node count when no table is shared.
+ */
+public class MinimaxStrategy implements Strategy {
+    // Mixed into every hash key, so this strategy's entries never collide with those of an alpha-beta
+    // search sharing the same table (which scores positions without moves differently)
+    private static final long KEY_SALT = 0x6D696E696D617821L;
+    // Subtrees with less depth left than this are searched by the task that reaches them
+    private static final int DEFAULT_SPLIT_DEPTH = 3;
+
+    private int MAX_DEPTH = 2;
+    private int nodesEvaluated = 0;  // Counter for node evaluations
+    private final Bitboard position = new Bitboard(0L, 0L);  // Searched in place with makeMove/undoMove
+    private TranspositionTable table;  // optional, null when not sharing one
+    private ForkJoinPool pool;  // null to search on the calling thread
+    private int splitDepth = DEFAULT_SPLIT_DEPTH;
+
+    /**
+     * Returns the number of nodes evaluated in the last Minimax run.
+     *
+     * @return Number of nodes evaluated.
+     */
+    public int getNodesEvaluated() {
+        return nodesEvaluated;
+    }
+
+    /**
+     * Resets the internal counter for the number of nodes evaluated.
+     */
+    // Reset counter
+    public void resetNodesEvaluated() {
+        nodesEvaluated = 0;
+    }
+
+    /**
+     * Sets the depth searched below each root move.
+     *
+     * @param maxDepth the search depth, at least 0
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.MAX_DEPTH = maxDepth;
+    }
+
+    /**
+     * Sets a transposition table to probe and store into, or null to search without one.
+     *
+     * @param table the table to use
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Sets a fork-join pool to search on, or null to search on the calling thread.
+     *
+     * @param pool the pool to run the search tasks on
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the smallest remaining depth at which a subtree is split into a task per move when searching
+     * on a pool. Lower values make more, smaller tasks. The root moves are always split.
+     *
+     * @param splitDepth the split threshold, at least 1
+     */
+    public void setSplitDepth(int splitDepth) {
+        if (splitDepth < 1) {
+            throw new IllegalArgumentException("Split depth must be at least 1: " + splitDepth);
+        }
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * Selects the best move for the current player using the Minimax algorithm.
+     *
+     * @param board    The current game board.
+     * @param player   The player making the move.
+     * @param opponent The opposing player.
+     * @return The optimal {@link BoardSpace} to play.
+     * @throws IllegalArgumentException if the board is not 8x8, since the search runs on bitboards
+     */
+    @Override
+    public BoardSpace selectMove(BoardSpace[][] board, Player player, Player opponent) {
+        resetNodesEvaluated();  // Reset counter before each move
+        // Search on one mutable bitboard so no BoardSpace is allocated per node
+        position.setPosition(Bitboard.mask(board, player.getColor()), Bitboard.mask(board, opponent.getColor()));
+        if (pool != null) {
+            return selectMoveParallel(board);
+        }
+        //get potential move
+        int maxScore = Integer.MIN_VALUE;
+        BoardSpace move = null;
+        long futureMoves = position.legalMoves();
+        while (futureMoves != 0) {
+            int square = Long.numberOfTrailingZeros(futureMoves);
+            futureMoves &= futureMoves - 1;
+            //simulate move
+            position.makeMove(square);
+            //recursive call
+            int score = minmaximizer(position, MAX_DEPTH, false);
+            position.undoMove();
+            if (score > maxScore || move == null) {  // a move even if every line scores Integer.MIN_VALUE
+                maxScore = score;
+                move = board[Bitboard.row(square)][Bitboard.col(square)];
+            }
+        }
+        return move;
+    }
+
+    /**
+     * Searches the root moves as tasks on the pool, then picks the move the same way as the sequential
+     * search: the first highest score in square order.
+     *
+     * @param board the current game board, whose spaces are returned
+     * @return the optimal {@link BoardSpace} to play, or null if there is no move
+     */
+    private BoardSpace selectMoveParallel(BoardSpace[][] board) {
+        long player = position.getPlayer();
+        long opponent = position.getOpponent();
+        long futureMoves = position.legalMoves();
+        int[] squares = new int[Long.bitCount(futureMoves)];
+        MinimaxTask[] tasks = new MinimaxTask[squares.length];
+        for (int i = 0; futureMoves != 0; i++) {
+            squares[i] = Long.numberOfTrailingZeros(futureMoves);
+            futureMoves &= futureMoves - 1;
+            long flipped = Bitboard.flips(player, opponent, squares[i]);
+            tasks[i] = new MinimaxTask(opponent & ~flipped, player | flipped | (1L << squares[i]), MAX_DEPTH, false);
+            pool.execute(tasks[i]);
+        }
+        int maxScore = Integer.MIN_VALUE;
+        BoardSpace move = null;
+        for (int i = 0; i < tasks.length; i++) {
+            int score = tasks[i].join();
+            nodesEvaluated += tasks[i].nodes;
+            if (score > maxScore || move == null) {  // a move even if every line scores Integer.MIN_VALUE
+                maxScore = score;
+                move = board[Bitboard.row(squares[i])][Bitboard.col(squares[i])];
+            }
+        }
+        return move;
+    }
+
+    /**
+     * Scores one subtree for the parallel search. The task owns its position; with at least the split depth
+     * left it forks a task per move, and otherwise it runs the sequential search on a board of its own.
+     */
+    private class MinimaxTask extends RecursiveTask<Integer> {
+        private final long player;
+        private final long opponent;
+        private final int depth;
+        private final boolean maximizing;
+        private int nodes;  // nodes evaluated in the subtree, valid after the task completes
+
+        MinimaxTask(long player, long opponent, int depth, boolean maximizing) {
+            this.player = player;
+            this.opponent = opponent;
+            this.depth = depth;
+            this.maximizing = maximizing;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (depth < splitDepth) {
+                // A strategy of its own gives the subtree its own board and node counter
+                MinimaxStrategy worker = new MinimaxStrategy();
+                worker.table = table;
+                worker.position.setPosition(player, opponent);
+                int score = worker.minmaximizer(worker.position, depth, maximizing);
+                nodes = worker.nodesEvaluated;
+                return score;
+            }
+            nodes = 1;  // this node, counted like a call to minmaximizer
+            long moves = Bitboard.legalMoves(player, opponent);
+            MinimaxTask[] children = new MinimaxTask[Long.bitCount(moves)];
+            for (int i = 0; moves != 0; i++) {
+                int square = Long.numberOfTrailingZeros(moves);
+                moves &= moves - 1;
+                long flipped = Bitboard.flips(player, opponent, square);
+                children[i] = new MinimaxTask(opponent & ~flipped, player | flipped | (1L << square), depth - 1, !maximizing);
+            }
+            invokeAll(children);
+            int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            for (MinimaxTask child : children) {
+                int score = child.join();
+                nodes += child.nodes;
+                best = maximizing ? Math.max(best, score) : Math.min(best, score);
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Recursive Minimax evaluation function.
+     * Walks the tree on a single bitboard, making and undoing each move in place.
+     *
+     * @param position   Current board state, with the side to move matching {@code maximizing}.
+     * @param depth      Current depth of recursion.
+     * @param maximizing True if this node is a maximizing node, false if minimizing.
+     * @return The evaluated score of the board.
+     */
+    private int minmaximizer(Bitboard position, int depth, boolean maximizing) {
+        nodesEvaluated++;  // Increment counter for each node evaluated (check efficiency)
+
+        if (depth == 0) {
+            // Score from the AI player's perspective, who is to move at maximizing nodes
+            int score = Bitboard.evaluate(position.getPlayer(), position.getOpponent());
+            return maximizing ? score : -score;
+        }
+        long key = position.getHash() ^ KEY_SALT;
+        if (table != null) {
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.depth(entry) == depth
+                    && TranspositionTable.bound(entry) == TranspositionTable.EXACT) {
+                // Entries are stored from the side to move, which is the AI player only at maximizing nodes
+                int score = TranspositionTable.score(entry);
+                return maximizing ? score : negate(score);
+            }
+        }
+        int score = maximizing ? maximize(position, depth) : minimize(position, depth);
+        if (table != null) {
+            table.store(key, depth, TranspositionTable.EXACT, maximizing ? score : negate(score),
+                    TranspositionTable.NO_MOVE);
+        }
+        return score;
+    }
+
+    /**
+     * Negates a score, mapping the "no move" sentinels Integer.MIN_VALUE and Integer.MAX_VALUE onto each other.
+     *
+     * @param score The score to negate.
+     * @return The negated score.
+     */
+    private static int negate(int score) {
+        if (score == Integer.MIN_VALUE) {
+            return Integer.MAX_VALUE;
+        } else if (score == Integer.MAX_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        return -score;
+    }
+
+    /**
+     * Scores a maximizing node, where the AI player is to move.
+     *
+     * @param position Current board state.
+     * @param depth    Current depth of recursion.
+     * @return The best score among the children, or Integer.MIN_VALUE if there is no move.
+     */
+    private int maximize(Bitboard position, int depth) {
+        int maxScore = Integer.MIN_VALUE;
+        long availableMoves = position.legalMoves();
+        while (availableMoves != 0) {
+            int square = Long.numberOfTrailingZeros(availableMoves);
+            availableMoves &= availableMoves - 1;
+            // Immediate result board after my single move (opponent's turn)
+            position.makeMove(square);
+            int score = minmaximizer(position, depth - 1, false);
+            position.undoMove();
+            maxScore = Math.max(maxScore, score);
+        }
+        return maxScore;
+    }
+
+    /**
+     * Scores a minimizing node, where the opponent is to move.
+     *
+     * @param position Current board state.
+     * @param depth    Current depth of recursion.
+     * @return The worst score among the children, or Integer.MAX_VALUE if there is no move.
+     */
+    private int minimize(Bitboard position, int depth) {
+        int minScore = Integer.MAX_VALUE;
+        long availableMoves = position.legalMoves();
+        while (availableMoves != 0) {
+            int square = Long.numberOfTrailingZeros(availableMoves);
+            availableMoves &= availableMoves - 1;
+            position.makeMove(square);
+            int score = minmaximizer(position, depth - 1, true);
+            position.undoMove();
+            minScore = Math.min(minScore, score);
+        }
+        return minScore;
+    }
+}
@@ -0,0 +1,156 @@
+package othello.gamelogic;
+
+import java.util.Arrays;
+
+/**
+ * Orders the moves of an alpha-beta search so the ones most likely to cause a cutoff are searched first:
+ * <ol>
+ *   <li>the best move stored in the transposition table for the position,</li>
+ *   <li>the killer moves of the ply: the last two moves that caused a cutoff at the same ply elsewhere in the tree,</li>
+ *   <li>the other moves by their history score: how often, and how deep, each square caused a cutoff,</li>
+ *   <li>and among equal history scores, the square with the higher Constants.BOARD_WEIGHTS value.</li>
+ * </ol>
+ * The moves of each ply are sorted into a preallocated buffer, so ordering allocates nothing.
+ * An instance keeps the killers and history of one search thread and must not be shared.
+ */
+public class MoveOrdering {
+    private static final int KILLERS_PER_PLY = 2;
+    // History scores are halved once one of them passes this, so they never overflow and old results fade
+    private static final int HISTORY_LIMIT = 1 << 20;
+    // Sort keys: the hash move and the killers are above any history key
+    private static final long HASH_MOVE_KEY = Long.MAX_VALUE;
+    private static final long KILLER_KEY = Long.MAX_VALUE / 2;
+    // Room below a history score for the square weight, which is in [-100, 200]
+    private static final int WEIGHT_BITS = 10;
+    private static final int WEIGHT_OFFSET = 512;
+
+    private static final int[] SQUARE_WEIGHTS = new int[Bitboard.NUM_SQUARES];
+
+    static {
+        for (int sq = 0; sq < Bitboard.NUM_SQUARES; sq++) {
+            SQUARE_WEIGHTS[sq] = Constants.BOARD_WEIGHTS[Bitboard.row(sq)][Bitboard.col(sq)];
+        }
+    }
+
+    private final int[][] killers = new int[Bitboard.MAX_PLY][KILLERS_PER_PLY];
+    private final int[] history = new int[Bitboard.NUM_SQUARES];
+    private final int[][] moveBuffers = new int[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+    private final long[][] keyBuffers = new long[Bitboard.MAX_PLY][Bitboard.NUM_SQUARES];
+
+    /**
+     * Constructs a move ordering with no killers and no history.
+     */
+    public MoveOrdering() {
+        clear();
+    }
+
+    /**
+     * Forgets all killers and history, for example before searching an unrelated position.
+     */
+    public void clear() {
+        for (int[] plyKillers : killers) {
+            Arrays.fill(plyKillers, TranspositionTable.NO_MOVE);
+        }
+        Arrays.fill(history, 0);
+    }
+
+    /**
+     * Prepares for a new search from a new root: the killers are dropped, since plies now mean different
+     * positions, and the history is halved so recent cutoffs weigh more than old ones.
+     */
+    public void newSearch() {
+        for (int[] plyKillers : killers) {
+            Arrays.fill(plyKillers, TranspositionTable.NO_MOVE);
+        }
+        ageHistory();
+    }
+
+    /**
+     * Sorts the moves of a node into the buffer of its ply, best first.
+     *
+     * @param moves    the legal moves
+     * @param hashMove the best move from the transposition table, or {@link TranspositionTable#NO_MOVE}
+     * @param ply      the distance from the root, which selects the buffer and the killers
+     * @return the number of moves, which are in {@link #moves(int)} afterwards
+     */
+    public int order(long moves, int hashMove, int ply) {
+        int[] buffer = moveBuffers[ply];
+        long[] keys = keyBuffers[ply];
+        int[] plyKillers = killers[ply];
+        int count = 0;
+        while (moves != 0) {
+            int square = Long.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+            long key;
+            if (square == hashMove) {
+                key = HASH_MOVE_KEY;
+            } else if (square == plyKillers[0]) {
+                key = KILLER_KEY;
+            } else if (square == plyKillers[1]) {
+                key = KILLER_KEY - 1;
+            } else {
+                key = ((long) history[square] << WEIGHT_BITS) + SQUARE_WEIGHTS[square] + WEIGHT_OFFSET;
+            }
+            // Insertion sort, highest key first; there are rarely more than 15 moves
+            int j = count - 1;
+            while (j >= 0 && keys[j] < key) {
+                buffer[j + 1] = buffer[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            buffer[j + 1] = square;
+            keys[j + 1] = key;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the buffer filled by the last {@link #order(long, int, int)} call for a ply.
+     *
+     * @param ply the distance from the root
+     * @return the ordered moves; only the first {@code count} entries are valid
+     */
+    public int[] moves(int ply) {
+        return moveBuffers[ply];
+    }
+
+    /**
+     * Records a move that caused a beta cutoff: it becomes the first killer of its ply,
+     * and its history score grows with the square of the remaining depth.
+     *
+     * @param square the move that caused the cutoff
+     * @param ply    the distance from the root
+     * @param depth  the remaining depth of the node
+     */
+    public void recordCutoff(int square, int ply, int depth) {
+        int[] plyKillers = killers[ply];
+        if (plyKillers[0] != square) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = square;
+        }
+        history[square] += depth * depth;
+        if (history[square] > HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Returns the history score of a square.
+     *
+     * @param square the square index
+     * @return the history score
+     */
+    int getHistory(int square) {
+        return history[square];
+    }
+
+    /**
+     * Halves every history score.
+     */
+    private void ageHistory() {
+        for (int sq = 0; sq < Bitboard.NUM_SQUARES; sq++) {
+            history[sq] >>= 1;
+        }
+    }
+}
@@ -13,6 +13,10 @@ public class OthelloGame {
     private final Player playerTwo;
     private Player currentPlayer;
 
+    // The discs of each color, kept up to date by takeSpace so scores never need a pass over the board
+    private long blackDiscs;
+    private long whiteDiscs;
+
     /**
      * Constructs a new OthelloGame with two players.
      * Initializes the board and sets the current player to playerOne.
@@ -43,6 +47,7 @@ public class OthelloGame {
      */
     public void setBoard(BoardSpace[][] board) {
         this.board = board;
+        recount();
     }
 
     /**
@@ -69,6 +74,45 @@ public class OthelloGame {
         return  playerTwo;
     }
 
+    /**
+     * Returns the discs of one color, as tracked by {@link #takeSpace(Player, Player, int, int)}.
+     * @param color BLACK or WHITE
+     * @return a mask with bit {@code x * 8 + y} set for every disc of that color on (x, y), 0 for EMPTY
+     */
+    public long getDiscs(BoardSpace.SpaceType color) {
+        return switch (color) {
+            case BLACK -> blackDiscs;
+            case WHITE -> whiteDiscs;
+            default -> 0L;
+        };
+    }
+
+    /**
+     * Returns the number of discs of one color in constant time. Used by the GUI for the score.
+     * @param color BLACK or WHITE
+     * @return the number of discs of that color
+     */
+    public int getDiscCount(BoardSpace.SpaceType color) {
+        return Long.bitCount(getDiscs(color));
+    }
+
+    /**
+     * Returns whether every square of the board holds a disc.
+     * @return true if there are 64 discs on the board
+     */
+    public boolean isBoardFull() {
+        return (blackDiscs | whiteDiscs) == -1L;
+    }
+
+    /**
+     * Recomputes the discs of each color from the board.
+     * Only needed after changing the types of the board's spaces directly rather than through this class.
+     */
+    public void recount() {
+        blackDiscs = Bitboard.mask(board, BoardSpace.SpaceType.BLACK);
+        whiteDiscs = Bitboard.mask(board, BoardSpace.SpaceType.WHITE);
+    }
+
     /**
      * Returns the available moves for a player.
      * Used by the GUI to get available moves each turn.
@@ -79,6 +123,27 @@ public class OthelloGame {
         return player.getAvailableMoves(board);
     }
 
+    /**
+     * Returns the available moves for a player as a bitboard mask, from the game's discs without scanning the board.
+     * Opponent pieces are all discs of another color, as in {@link Player#getMoveMask(BoardSpace[][])}.
+     * @param player player to get moves for
+     * @return a mask with bit {@code x * 8 + y} set for every valid destination (x, y)
+     */
+    public long getMoveMask(Player player) {
+        long own = getDiscs(player.getColor());
+        return Bitboard.legalMoves(own, (blackDiscs | whiteDiscs) & ~own);
+    }
+
+    /**
+     * Writes the available moves for a player into a reusable buffer as square indices ({@code x * 8 + y}).
+     * @param player player to get moves for
+     * @param moves the buffer to fill, with room for at least 64 squares
+     * @return the number of moves written
+     */
+    public int getAvailableMoves(Player player, int[] moves) {
+        return Bitboard.toSquares(getMoveMask(player), moves);
+    }
+
     /**
      * Initializes the board at the start of the game with all EMPTY spaces.
      */
@@ -95,6 +160,7 @@ public class OthelloGame {
         board[3][4].setType(BoardSpace.SpaceType.BLACK);
         board[4][3].setType(BoardSpace.SpaceType.BLACK);
         board[4][4].setType(BoardSpace.SpaceType.WHITE);
+        recount();
     }
 
     /**
@@ -120,26 +186,22 @@ public class OthelloGame {
             return;
         }
         // If NOT already owned by current player, it could be empty or owned by opponent
-        // either way this might change, so need to record current state before changing
-        BoardSpace.SpaceType previousType = boardSpace.getType(); // type is an ENUM represents STATE: empty, black, white
 
         // Flow of game in GameController and getAvailableMoves() means being able call
         // takeSpace on a board space owned by opponent is legal and results in a 'win' flip of opponent's color
 
-        // Update the lists based on previous state
-        // Remove this x-y space from opponent's list of board spaces
-        if (previousType == opponent.getColor()) {
-            opponent.getPlayerOwnedSpacesSpaces().remove(boardSpace);
-        }
-
         // Change the space type (COLOR) to current player's color (already checked this is possible)
         boardSpace.setType(actingPlayer.getColor());
 
-        // Add this x-y space to acting player's list of board spaces
-        actingPlayer.getPlayerOwnedSpacesSpaces().add(boardSpace);
-
-        // check if space already taken by actingPlayer (which has getter of List<BoardSpace> playerOwnedSpaces )
-        actingPlayer.getPlayerOwnedSpacesSpaces();
+        // Update the discs of both colors, a bit each whatever the previous state was
+        long bit = 1L << Bitboard.square(x, y);
+        blackDiscs &= ~bit;
+        whiteDiscs &= ~bit;
+        if (actingPlayer.getColor() == BoardSpace.SpaceType.BLACK) {
+            blackDiscs |= bit;
+        } else if (actingPlayer.getColor() == BoardSpace.SpaceType.WHITE) {
+            whiteDiscs |= bit;
+        }
     }
 
 
@@ -185,6 +247,30 @@ public class OthelloGame {
         this.currentPlayer = opponent;
     }
 
+    /**
+     * Executes a full move by the acting player given as a square index ({@code x * 8 + y}).
+     * The pieces to flip are derived from the move itself with the bitboard, so no origin lists are needed.
+     * @param actingPlayer the player making the move
+     * @param opponent the opponent player
+     * @param square the square the acting player has chosen to place a piece on
+     * @return the mask of the opponent pieces that were flipped, 0 if the move was not valid
+     */
+    public long takeSpaces(Player actingPlayer, Player opponent, int square) {
+        long own = getDiscs(actingPlayer.getColor());
+        long opp = getDiscs(opponent.getColor());
+        long flipped = Bitboard.flips(own, opp, square);
+        if (flipped == 0) {
+            return 0L;
+        }
+        takeSpace(actingPlayer, opponent, Bitboard.row(square), Bitboard.col(square));
+        for (long bits = flipped; bits != 0; bits &= bits - 1) {
+            int flip = Long.numberOfTrailingZeros(bits);
+            takeSpace(actingPlayer, opponent, Bitboard.row(flip), Bitboard.col(flip));
+        }
+        this.currentPlayer = opponent;
+        return flipped;
+    }
+
     /**
      * Switches the player.
      */
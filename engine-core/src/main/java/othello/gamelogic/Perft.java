@@ -0,0 +1,164 @@
+package othello.gamelogic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the leaf nodes of the game tree to a fixed depth ("perft"). The counts check that the move generator
+ * is correct, and the time taken to get them measures its raw speed.
+ *
+ * <p>A pass is a move of its own and uses up one ply. A position where neither side can move is a leaf,
+ * whatever depth is left. With these rules the counts from the starting position match {@link #REFERENCE_COUNTS}.
+ *
+ * <p>Run from the command line with {@code Perft <depth> [threads]}. With more than one thread the tree is
+ * split over a fork-join pool.
+ */
+public class Perft {
+    /** Known leaf counts from the starting position, indexed by depth. */
+    public static final long[] REFERENCE_COUNTS = {
+            1L, 4L, 12L, 56L, 244L, 1_396L, 8_200L, 55_092L, 390_216L, 3_005_288L,
+            24_571_284L, 212_258_800L, 1_939_886_636L, 18_429_641_748L};
+
+    // Subtrees with less depth left than this are counted by the task that reaches them
+    private static final int SPLIT_DEPTH = 4;
+
+    /**
+     * Counts the leaf nodes below a position on a single thread.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param depth    the number of plies to play, passes included
+     * @return the number of leaf nodes
+     */
+    public static long perft(long player, long opponent, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            if (Bitboard.legalMoves(opponent, player) == 0) {
+                return 1;  // game over
+            }
+            return perft(opponent, player, depth - 1);
+        }
+        if (depth == 1) {
+            return Long.bitCount(moves);
+        }
+        long nodes = 0;
+        while (moves != 0) {
+            int square = Long.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+            long flipped = Bitboard.flips(player, opponent, square);
+            nodes += perft(opponent & ~flipped, player | flipped | (1L << square), depth - 1);
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the leaf nodes below a position on the threads of a fork-join pool.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @param depth    the number of plies to play, passes included
+     * @param pool     the pool to run on
+     * @return the number of leaf nodes
+     */
+    public static long perft(long player, long opponent, int depth, ForkJoinPool pool) {
+        return pool.invoke(new PerftTask(player, opponent, depth));
+    }
+
+    /**
+     * Counts the subtree of one position, forking a task per move while enough depth is left.
+     */
+    private static class PerftTask extends RecursiveTask<Long> {
+        private final long player;
+        private final long opponent;
+        private final int depth;
+
+        PerftTask(long player, long opponent, int depth) {
+            this.player = player;
+            this.opponent = opponent;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth < SPLIT_DEPTH) {
+                return perft(player, opponent, depth);
+            }
+            long moves = Bitboard.legalMoves(player, opponent);
+            if (moves == 0) {
+                if (Bitboard.legalMoves(opponent, player) == 0) {
+                    return 1L;
+                }
+                return new PerftTask(opponent, player, depth - 1).compute();
+            }
+            PerftTask[] tasks = new PerftTask[Long.bitCount(moves)];
+            for (int i = 0; moves != 0; i++) {
+                int square = Long.numberOfTrailingZeros(moves);
+                moves &= moves - 1;
+                long flipped = Bitboard.flips(player, opponent, square);
+                tasks[i] = new PerftTask(opponent & ~flipped, player | flipped | (1L << square), depth - 1);
+            }
+            invokeAll(tasks);
+            long nodes = 0;
+            for (PerftTask task : tasks) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+
+    /**
+     * Returns the starting position of {@link OthelloGame#initBoard()} as a bitboard, black to move.
+     *
+     * @return the starting position
+     */
+    public static Bitboard startPosition() {
+        Player black = new HumanPlayer();
+        Player white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+        OthelloGame game = new OthelloGame(black, white);
+        return new Bitboard(game.getBoard(), BoardSpace.SpaceType.BLACK, BoardSpace.SpaceType.WHITE);
+    }
+
+    /**
+     * Runs perft from the starting position for every depth up to the one given, printing the count,
+     * whether it matches the reference, and the speed in nodes per second.
+     *
+     * @param args the maximum depth (default 9), and optionally the number of threads (default 1)
+     */
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        Bitboard start = startPosition();
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        System.out.printf("perft from the starting position, %d thread(s)%n", threads);
+        boolean allMatch = true;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            long begin = System.nanoTime();
+            long nodes = pool == null
+                    ? perft(start.getPlayer(), start.getOpponent(), depth)
+                    : perft(start.getPlayer(), start.getOpponent(), depth, pool);
+            double seconds = Math.max((System.nanoTime() - begin) / 1e9, 1e-9);
+            String check;
+            if (depth >= REFERENCE_COUNTS.length) {
+                check = "no reference";
+            } else if (nodes == REFERENCE_COUNTS[depth]) {
+                check = "ok";
+            } else {
+                check = "MISMATCH, expected " + REFERENCE_COUNTS[depth];
+                allMatch = false;
+            }
+            System.out.printf("depth %2d: %,16d nodes %10.3f s %,14.0f nodes/s  %s%n",
+                    depth, nodes, seconds, nodes / seconds, check);
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+        if (!allMatch) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package othello.gamelogic;
 
-import java.sql.Array;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -10,19 +9,13 @@ import static othello.gamelogic.OthelloGame.GAME_BOARD_SIZE;
 
 /**
  * Abstract Player class for representing a player within the game.
- * All types of Players have a color and a set of owned spaces on the game board.
+ * All types of Players have a color. The spaces a player owns are kept by the game, see
+ * {@link OthelloGame#getDiscs(BoardSpace.SpaceType)}, so one Player can take part in several games.
  */
 public abstract class Player {
-    private final List<BoardSpace> playerOwnedSpaces = new ArrayList<>();
+    private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1},
+            {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
 
-    /**
-     * Returns the list of spaces currently owned by this player.
-     *
-     * @return a list of BoardSpace objects owned by the player
-     */
-    public List<BoardSpace> getPlayerOwnedSpacesSpaces() {
-        return playerOwnedSpaces;
-    }
     private BoardSpace.SpaceType color;
 
     /**
@@ -43,10 +36,39 @@ public abstract class Player {
         return color;
     }
 
+    /**
+     * Computes the valid moves of this player as a bitboard mask, without allocating.
+     * This scans the board; inside a game, {@link OthelloGame#getMoveMask(Player)} uses the game's discs instead.
+     * Opponent pieces are all non-empty spaces of another color, as in {@link #getAvailableMoves(BoardSpace[][])}.
+     *
+     * @param board the current state of the 8x8 Othello game board
+     * @return a mask with bit {@code x * 8 + y} set for every valid destination (x, y)
+     */
+    public long getMoveMask(BoardSpace[][] board) {
+        long own = Bitboard.mask(board, color);
+        long occupied = ~Bitboard.mask(board, BoardSpace.SpaceType.EMPTY);
+        return Bitboard.legalMoves(own, occupied & ~own);
+    }
+
+    /**
+     * Writes the valid moves of this player into a reusable buffer as square indices ({@code x * 8 + y}).
+     * The pieces a move flips can be derived from its square with {@link Bitboard#flips(long, long, int)}
+     * or played directly with {@link OthelloGame#takeSpaces(Player, Player, int)}.
+     *
+     * @param board the current state of the 8x8 Othello game board
+     * @param moves the buffer to fill, with room for at least 64 squares
+     * @return the number of valid moves written to the buffer
+     */
+    public int getAvailableMoves(BoardSpace[][] board, int[] moves) {
+        return Bitboard.toSquares(getMoveMask(board), moves);
+    }
+
      /**
      * Determines all valid moves available for this player given the current board state.
      * A valid move is represented as a destination (empty space) and a list of origin pieces
      * that can traverse in a straight line to flip opponent pieces.
+     * This is an adapter for callers that need origins (such as the GUI); searches should use
+     * {@link #getMoveMask(BoardSpace[][])} instead.
      *
      * @param board the current state of the Othello game board
      * @return a map where each key is a valid destination BoardSpace, and its value is a list
@@ -58,32 +80,48 @@ public abstract class Player {
 
         Map<BoardSpace, List<BoardSpace>> availableMoves = new HashMap<>();
 
-        int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1},
-                {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+        if (board.length == GAME_BOARD_SIZE && board[0].length == GAME_BOARD_SIZE) {
+            // Only the valid destinations from the bitboard need their origins worked out
+            for (long moves = getMoveMask(board); moves != 0; moves &= moves - 1) {
+                int square = Long.numberOfTrailingZeros(moves);
+                addOrigins(availableMoves, Bitboard.row(square), Bitboard.col(square), board);
+            }
+            return availableMoves;
+        }
 
         for (int i = 0; i < board.length; i++) {
             for (int j = 0; j < board[0].length; j++) {
-                BoardSpace current = board[i][j];
-                if (current.getType() == BoardSpace.SpaceType.EMPTY) {
-                    List<BoardSpace> origins = new ArrayList<>();
-
-                    for (int[] dir : directions) {
-                        int dx = dir[0];
-                        int dy = dir[1];
-                        BoardSpace origin = getSingleOrigin(i, j, dx, dy, board);
-                        if (origin != null) {
-                            origins.add(origin);
-                        }
-                    }
-                    if (!origins.isEmpty()) {
-                        availableMoves.put(current, origins);
-                    }
+                if (board[i][j].getType() == BoardSpace.SpaceType.EMPTY) {
+                    addOrigins(availableMoves, i, j, board);
                 }
             }
         }
         return availableMoves;
     }
 
+    /**
+     * Adds an empty space to the available moves, with its origins, if it is a valid move.
+     *
+     * @param availableMoves the map of moves to add to
+     * @param x     the x-coordinate (row) of the empty space
+     * @param y     the y-coordinate (column) of the empty space
+     * @param board the current game board
+     */
+    private void addOrigins(Map<BoardSpace, List<BoardSpace>> availableMoves, int x, int y, BoardSpace[][] board) {
+        List<BoardSpace> origins = new ArrayList<>();
+        for (int[] dir : DIRECTIONS) {
+            int dx = dir[0];
+            int dy = dir[1];
+            BoardSpace origin = getSingleOrigin(x, y, dx, dy, board);
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+        if (!origins.isEmpty()) {
+            availableMoves.put(board[x][y], origins);
+        }
+    }
+
     /**
      * Helper method that checks a specific direction from an empty board cell to determine
      * if there exists a valid move path starting from an opponent's piece and ending on one of the player's pieces.
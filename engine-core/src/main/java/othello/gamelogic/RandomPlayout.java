@@ -0,0 +1,113 @@
+package othello.gamelogic;
+
+/**
+ * Plays random games to the end on bitboards, for the simulation step of {@link MCTSStrategy}.
+ * Every legal move is picked with the same probability, and a player without moves passes.
+ *
+ * <p>A playout works on primitive state only and allocates nothing. The random numbers come from a
+ * SplitMix64 generator owned by the instance, so an instance must not be shared between threads.
+ * {@link #current()} returns one instance per thread.
+ */
+public final class RandomPlayout {
+    private static final ThreadLocal<RandomPlayout> PER_THREAD =
+            ThreadLocal.withInitial(() -> new RandomPlayout(System.nanoTime() ^ Thread.currentThread().threadId()));
+
+    private long seed;
+    // Final position of the last playout, from the perspective of the side that was to move at its start
+    private long finalPlayer;
+    private long finalOpponent;
+
+    /**
+     * Constructs a playout engine with a fixed seed, so its games can be reproduced.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public RandomPlayout(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the playout engine of the calling thread.
+     *
+     * @return an engine used only by this thread
+     */
+    public static RandomPlayout current() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Plays random moves from a position until neither side can move.
+     * The final position is available from {@link #getPlayer()} and {@link #getOpponent()} afterwards.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the final disc count of the player minus that of the opponent
+     */
+    public int play(long player, long opponent) {
+        long current = player;
+        long other = opponent;
+        boolean swapped = false;
+        while (true) {
+            long moves = Bitboard.legalMoves(current, other);
+            if (moves == 0) {
+                if (Bitboard.legalMoves(other, current) == 0) {
+                    break;
+                }
+            } else {
+                // Long.expand deposits the single bit at the n-th set bit of the move mask
+                int square = Long.numberOfTrailingZeros(Long.expand(1L << nextInt(Long.bitCount(moves)), moves));
+                long flipped = Bitboard.flips(current, other, square);
+                current |= flipped | (1L << square);
+                other &= ~flipped;
+            }
+            long temp = current;
+            current = other;
+            other = temp;
+            swapped = !swapped;
+        }
+        finalPlayer = swapped ? other : current;
+        finalOpponent = swapped ? current : other;
+        return Long.bitCount(finalPlayer) - Long.bitCount(finalOpponent);
+    }
+
+    /**
+     * Returns the final discs of the side that was to move when the last playout started.
+     *
+     * @return the player bitboard of the final position
+     */
+    public long getPlayer() {
+        return finalPlayer;
+    }
+
+    /**
+     * Returns the final discs of the other side of the last playout.
+     *
+     * @return the opponent bitboard of the final position
+     */
+    public long getOpponent() {
+        return finalOpponent;
+    }
+
+    /**
+     * Returns a uniformly distributed number in [0, bound).
+     *
+     * @param bound the upper bound, between 1 and 64
+     * @return the random number
+     */
+    int nextInt(int bound) {
+        // Take the high 32 bits and scale them into the range without a division
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Advances the SplitMix64 generator.
+     *
+     * @return 64 random bits
+     */
+    private long nextLong() {
+        long z = (seed += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,18 @@
+package othello.gamelogic;
+
+/**
+ * Receives the progress of a search while it runs, from strategies that search by iterative deepening.
+ * It is called on the searching thread, so implementations should return quickly and hand the values
+ * to other threads themselves.
+ */
+@FunctionalInterface
+public interface SearchListener {
+    /**
+     * Called each time the search completes a depth.
+     *
+     * @param depth      the depth just completed
+     * @param bestSquare the best move at that depth, with bit {@code x * 8 + y} for square (x, y)
+     * @param nodes      the nodes searched so far in this search
+     */
+    void depthCompleted(int depth, int bestSquare, long nodes);
+}
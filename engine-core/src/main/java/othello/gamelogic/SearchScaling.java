@@ -0,0 +1,111 @@
+package othello.gamelogic;
+
+/**
+ * Measures how the lazy SMP search of {@link CustomStrategy} scales with the number of threads.
+ * For each thread count, a fresh strategy searches a fixed set of positions to a fixed depth,
+ * and the report gives the time to reach that depth and the nodes per second over all threads.
+ *
+ * <p>Run from the command line with {@code SearchScaling [depth] [maxThreads]}. The thread counts
+ * are the powers of two up to {@code maxThreads}.
+ */
+public class SearchScaling {
+    private static final long SEED = 5940;
+    private static final int[] POSITION_EMPTIES = {50, 44, 38, 32, 26};
+
+    /**
+     * Plays random moves from the starting position until the given number of squares is empty.
+     *
+     * @param engine  the random number source
+     * @param empties the number of empty squares to stop at
+     * @return the player and opponent discs, or null if the game ended first
+     */
+    static long[] randomPosition(RandomPlayout engine, int empties) {
+        Bitboard start = Perft.startPosition();
+        long player = start.getPlayer();
+        long opponent = start.getOpponent();
+        while (Long.bitCount(~(player | opponent)) > empties) {
+            long moves = Bitboard.legalMoves(player, opponent);
+            if (moves == 0) {
+                if (Bitboard.legalMoves(opponent, player) == 0) {
+                    return null;
+                }
+            } else {
+                int square = Long.numberOfTrailingZeros(Long.expand(1L << engine.nextInt(Long.bitCount(moves)), moves));
+                long flipped = Bitboard.flips(player, opponent, square);
+                player |= flipped | (1L << square);
+                opponent &= ~flipped;
+            }
+            long temp = player;
+            player = opponent;
+            opponent = temp;
+        }
+        return new long[] {player, opponent};
+    }
+
+    /**
+     * Builds the test positions: one per entry of {@code POSITION_EMPTIES}, from seeded random games,
+     * each with at least one legal move.
+     *
+     * @return the positions as player and opponent discs
+     */
+    static long[][] positions() {
+        RandomPlayout engine = new RandomPlayout(SEED);
+        long[][] positions = new long[POSITION_EMPTIES.length][];
+        for (int i = 0; i < positions.length; i++) {
+            long[] position = null;
+            while (position == null || Bitboard.legalMoves(position[0], position[1]) == 0) {
+                position = randomPosition(engine, POSITION_EMPTIES[i]);
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    /**
+     * Searches every position to the given depth with a fresh strategy, clearing the table between positions.
+     *
+     * @param positions the positions to search
+     * @param depth     the search depth
+     * @param threads   the number of search threads
+     * @return the nodes searched by all threads together
+     */
+    private static long run(long[][] positions, int depth, int threads) {
+        CustomStrategy strategy = new CustomStrategy();
+        strategy.setMaxDepth(depth);
+        strategy.setEndgameEmpties(0);  // time the search itself, not the solver
+        strategy.setThreads(threads);
+        long nodes = 0;
+        for (long[] position : positions) {
+            strategy.getTranspositionTable().clear();
+            strategy.bestMove(position[0], position[1]);
+            nodes += strategy.getTotalNodesEvaluated();
+        }
+        return nodes;
+    }
+
+    /**
+     * Runs the scaling report.
+     *
+     * @param args the search depth (default 8), and optionally the largest thread count (default 32)
+     */
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        long[][] positions = positions();
+        System.out.printf("lazy SMP to depth %d over %d positions, %d processor(s)%n",
+                depth, positions.length, Runtime.getRuntime().availableProcessors());
+
+        run(positions, depth, 1);  // warm up the JIT so the single-thread time is not inflated
+        double baseSeconds = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long begin = System.nanoTime();
+            long nodes = run(positions, depth, threads);
+            double seconds = Math.max((System.nanoTime() - begin) / 1e9, 1e-9);
+            if (threads == 1) {
+                baseSeconds = seconds;
+            }
+            System.out.printf("%2d thread(s): %8.3f s to depth %5.2fx speedup %,16d nodes %,14.0f nodes/s%n",
+                    threads, seconds, baseSeconds / seconds, nodes, nodes / seconds);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package othello.gamelogic;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * The {@code Strategy} interface defines the contract for implementing
+ * different move selection strategies in an Othello game.
+ *
+ * <p>Implementations of this interface can define how a player chooses a move
+ * based on the current state of the board and the players involved.
+ */
+public interface Strategy {
+
+    /**
+     * Selects the next move for the given player based on the current game board state.
+     *
+     * @param board    A 2D array of {@link BoardSpace} representing the current state of the game board.
+     * @param player   The current player for whom the move is being selected.
+     * @param opponent The opposing player.
+     * @return A {@link BoardSpace} representing the selected move, or {@code null} if no valid moves are available.
+     */
+    BoardSpace selectMove(BoardSpace[][] board, Player player, Player opponent);
+
+    /**
+     * Sets a listener for the progress of later searches. Strategies without iterative deepening
+     * have no progress to report and ignore it.
+     *
+     * @param listener the listener, or null for none
+     */
+    default void setSearchListener(SearchListener listener) {
+    }
+
+    /**
+     * Asks a search running on another thread to return as soon as it can. The search still returns
+     * a legal move: the best one it found so far. Has no effect on searches started afterwards,
+     * and none at all for strategies that cannot be interrupted.
+     *
+     * <p>A stop that arrives just before a search starts is lost, since the search clears it.
+     * Use {@link #setStopCondition(BooleanSupplier)} to stop a search that may not have started yet.
+     */
+    default void stop() {
+    }
+
+    /**
+     * Sets a condition that later searches check along with {@link #stop()}, returning as soon as they can
+     * once it holds. Unlike a stop, the condition is not cleared when a search starts, so giving each search
+     * its own condition stops exactly that search, however the stop and the start are timed.
+     * Strategies that cannot be interrupted ignore it.
+     *
+     * @param condition the condition, or null for none
+     */
+    default void setStopCondition(BooleanSupplier condition) {
+    }
+}
\ No newline at end of file
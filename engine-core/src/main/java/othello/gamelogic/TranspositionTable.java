@@ -0,0 +1,161 @@
+package othello.gamelogic;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size transposition table for alpha-beta search, keyed by {@link Bitboard#getHash()}.
+ * Each entry stores the search depth, the bound type, the score and the best move of a position.
+ *
+ * <p>All entries live in one preallocated {@code long[]}, two longs per entry: the key XOR the data,
+ * and the data itself. A reader recomputes the key from both longs, so an entry torn by two threads
+ * writing at the same time simply fails verification and is treated as a miss. This makes the table
+ * safe to share between search threads without any locking.
+ */
+public class TranspositionTable {
+    /** Value returned by {@link #probe(long)} when the position is not in the table. */
+    public static final long NO_ENTRY = 0L;
+    /** Value returned by {@link #move(long)} when the entry has no best move. */
+    public static final int NO_MOVE = -1;
+
+    /** The score is the exact value of the position. */
+    public static final int EXACT = 1;
+    /** The score is a lower bound (the search failed high). */
+    public static final int LOWER_BOUND = 2;
+    /** The score is an upper bound (the search failed low). */
+    public static final int UPPER_BOUND = 3;
+
+    // Bytes used by one entry (two longs)
+    private static final int ENTRY_BYTES = 16;
+
+    // Layout of the data long: score in bits 0-31, depth in bits 32-39,
+    // bound in bits 40-41 (never 0 for a stored entry), best move + 1 in bits 42-48
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+
+    private final long[] table;
+    private final long indexMask;
+
+    /**
+     * Constructs a transposition table using at most the given amount of memory.
+     * The number of entries is rounded down to a power of two.
+     *
+     * @param megabytes the size of the table in megabytes, at least 1
+     */
+    public TranspositionTable(int megabytes) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("Transposition table size must be at least 1 MB: " + megabytes);
+        }
+        long entries = entries(megabytes);
+        this.table = new long[(int) (entries * 2)];
+        this.indexMask = entries - 1;
+    }
+
+    /**
+     * Returns the number of entries a table of the given size holds: the most that fit,
+     * rounded down to a power of two.
+     *
+     * @param megabytes the size of the table in megabytes, at least 1
+     * @return the number of entries
+     */
+    static long entries(int megabytes) {
+        long entries = Long.highestOneBit(((long) megabytes << 20) / ENTRY_BYTES);
+        // Java arrays are indexed by int and hold two longs per entry, so cap the table at 2^29 entries (8 GB)
+        return Math.min(entries, 1L << 29);
+    }
+
+    /**
+     * Returns the number of entries in the table.
+     *
+     * @return the capacity of the table
+     */
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key the hash of the position
+     * @return the packed entry data, or {@link #NO_ENTRY} if the position is not stored
+     */
+    public long probe(long key) {
+        int index = (int) (key & indexMask) * 2;
+        long data = table[index + 1];
+        if (data != NO_ENTRY && (table[index] ^ data) == key) {
+            return data;
+        }
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores the result of searching a position, replacing the current entry in its slot
+     * unless that entry is a deeper search of the same position.
+     *
+     * @param key      the hash of the position
+     * @param depth    the depth the position was searched to, in [0, 255]
+     * @param bound    {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param score    the score of the position
+     * @param bestMove the square index of the best move, or {@link #NO_MOVE}
+     */
+    public void store(long key, int depth, int bound, int score, int bestMove) {
+        int index = (int) (key & indexMask) * 2;
+        long old = table[index + 1];
+        if (old != NO_ENTRY && (table[index] ^ old) == key && depth(old) > depth) {
+            return;
+        }
+        long data = (score & 0xFFFFFFFFL)
+                | ((long) (depth & 0xFF) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) (bestMove + 1) << MOVE_SHIFT);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+    }
+
+    /**
+     * Removes every entry from the table.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    /**
+     * Returns the score of a packed entry.
+     *
+     * @param data an entry returned by {@link #probe(long)}
+     * @return the stored score
+     */
+    public static int score(long data) {
+        return (int) data;
+    }
+
+    /**
+     * Returns the search depth of a packed entry.
+     *
+     * @param data an entry returned by {@link #probe(long)}
+     * @return the stored depth
+     */
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    /**
+     * Returns the bound type of a packed entry.
+     *
+     * @param data an entry returned by {@link #probe(long)}
+     * @return {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     */
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     * Returns the best move of a packed entry.
+     *
+     * @param data an entry returned by {@link #probe(long)}
+     * @return the square index of the best move, or {@link #NO_MOVE}
+     */
+    public static int move(long data) {
+        return ((int) (data >>> MOVE_SHIFT) & 0x7F) - 1;
+    }
+}
@@ -0,0 +1,144 @@
+package othello.tournament;
+
+/**
+ * The outcome of one tournament game.
+ */
+public final class GameResult {
+    private final int pairing;
+    private final int game;
+    private final StrategySpec black;
+    private final StrategySpec white;
+    private final long openingSeed;
+    private final int blackDiscs;
+    private final int whiteDiscs;
+    private final int moves;
+    private final long blackNanos;
+    private final long whiteNanos;
+
+    /**
+     * Constructs a game result.
+     *
+     * @param pairing     the index of the pairing of the two strategies
+     * @param game        the index of the game within the pairing
+     * @param black       the strategy playing black, which moves first
+     * @param white       the strategy playing white
+     * @param openingSeed the seed of the random opening moves
+     * @param blackDiscs  black's discs at the end
+     * @param whiteDiscs  white's discs at the end
+     * @param moves       the number of moves played, openings included and passes not
+     * @param blackNanos  the time black spent choosing moves
+     * @param whiteNanos  the time white spent choosing moves
+     */
+    public GameResult(int pairing, int game, StrategySpec black, StrategySpec white, long openingSeed,
+                      int blackDiscs, int whiteDiscs, int moves, long blackNanos, long whiteNanos) {
+        this.pairing = pairing;
+        this.game = game;
+        this.black = black;
+        this.white = white;
+        this.openingSeed = openingSeed;
+        this.blackDiscs = blackDiscs;
+        this.whiteDiscs = whiteDiscs;
+        this.moves = moves;
+        this.blackNanos = blackNanos;
+        this.whiteNanos = whiteNanos;
+    }
+
+    /**
+     * Returns the index of the pairing of the two strategies.
+     *
+     * @return the pairing index
+     */
+    public int getPairing() {
+        return pairing;
+    }
+
+    /**
+     * Returns the index of the game within its pairing.
+     *
+     * @return the game index
+     */
+    public int getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the strategy that played black.
+     *
+     * @return the black strategy
+     */
+    public StrategySpec getBlack() {
+        return black;
+    }
+
+    /**
+     * Returns the strategy that played white.
+     *
+     * @return the white strategy
+     */
+    public StrategySpec getWhite() {
+        return white;
+    }
+
+    /**
+     * Returns the seed of the random opening moves. Both games of a color-swapped pair share it.
+     *
+     * @return the opening seed
+     */
+    public long getOpeningSeed() {
+        return openingSeed;
+    }
+
+    /**
+     * Returns black's discs at the end of the game.
+     *
+     * @return the number of black discs
+     */
+    public int getBlackDiscs() {
+        return blackDiscs;
+    }
+
+    /**
+     * Returns white's discs at the end of the game.
+     *
+     * @return the number of white discs
+     */
+    public int getWhiteDiscs() {
+        return whiteDiscs;
+    }
+
+    /**
+     * Returns the number of moves played, the opening moves included and passes not.
+     *
+     * @return the number of moves
+     */
+    public int getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the time black spent choosing moves.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getBlackNanos() {
+        return blackNanos;
+    }
+
+    /**
+     * Returns the time white spent choosing moves.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getWhiteNanos() {
+        return whiteNanos;
+    }
+
+    /**
+     * Returns the result from black's side.
+     *
+     * @return 1 if black won, 0 for a draw, -1 if white won
+     */
+    public int getOutcome() {
+        return Integer.signum(blackDiscs - whiteDiscs);
+    }
+}
@@ -0,0 +1,111 @@
+package othello.tournament;
+
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+
+/**
+ * An immutable picture of a game in progress, which a game thread can hand to other threads as it is.
+ * The discs are bitboards with bit {@code x * 8 + y} for square (x, y).
+ */
+public final class GameSnapshot {
+    private final long black;
+    private final long white;
+    private final int moves;
+    private final int lastMove;
+    private final boolean finished;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param black    the black discs
+     * @param white    the white discs
+     * @param moves    the number of moves played so far, passes not included
+     * @param lastMove the square of the last move, or {@link Bitboard#PASS} before the first move
+     * @param finished whether neither side can move any more
+     */
+    public GameSnapshot(long black, long white, int moves, int lastMove, boolean finished) {
+        this.black = black;
+        this.white = white;
+        this.moves = moves;
+        this.lastMove = lastMove;
+        this.finished = finished;
+    }
+
+    /**
+     * Returns the black discs.
+     *
+     * @return the bitboard of black discs
+     */
+    public long getBlack() {
+        return black;
+    }
+
+    /**
+     * Returns the white discs.
+     *
+     * @return the bitboard of white discs
+     */
+    public long getWhite() {
+        return white;
+    }
+
+    /**
+     * Returns the number of moves played so far.
+     *
+     * @return the moves, passes not included
+     */
+    public int getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the square of the last move.
+     *
+     * @return the square, or {@link Bitboard#PASS} before the first move
+     */
+    public int getLastMove() {
+        return lastMove;
+    }
+
+    /**
+     * Returns whether the game is over.
+     *
+     * @return true if neither side can move
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the number of black discs.
+     *
+     * @return black's disc count
+     */
+    public int getBlackDiscs() {
+        return Long.bitCount(black);
+    }
+
+    /**
+     * Returns the number of white discs.
+     *
+     * @return white's disc count
+     */
+    public int getWhiteDiscs() {
+        return Long.bitCount(white);
+    }
+
+    /**
+     * Returns what is on a square.
+     *
+     * @param x the column of the square
+     * @param y the row of the square
+     * @return the type of the square
+     */
+    public BoardSpace.SpaceType getType(int x, int y) {
+        long bit = 1L << Bitboard.square(x, y);
+        if ((black & bit) != 0) {
+            return BoardSpace.SpaceType.BLACK;
+        }
+        return (white & bit) != 0 ? BoardSpace.SpaceType.WHITE : BoardSpace.SpaceType.EMPTY;
+    }
+}
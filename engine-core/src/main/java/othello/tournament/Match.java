@@ -0,0 +1,297 @@
+package othello.tournament;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Plays a candidate strategy against a baseline to find out whether a change made it stronger.
+ * Games run on a fixed thread pool, by default one thread per processor. Each opening from the opening list
+ * is played twice, once with each strategy as black, followed by a few seeded random moves so that repeated
+ * openings still give different games. The openings are taken in a seeded random order.
+ *
+ * <p>With an {@link Sprt}, the match stops as soon as the test accepts one of its hypotheses, or at the game
+ * limit otherwise. Games still running when the match stops are abandoned.
+ *
+ * <p>Run from the command line with
+ * {@code Match [--openings FILE] [--games N] [--threads T] [--seed S] [--opening-plies K]
+ * [--sprt elo0,elo1[,alpha,beta] | --sprt none] CANDIDATE BASELINE},
+ * where CANDIDATE and BASELINE are {@link StrategySpec}s. The default test is 0 against 10 Elo at 5% error rates,
+ * and the default openings are {@link Openings#standard()}.
+ */
+public class Match {
+    private static final int PROGRESS_INTERVAL = 50;
+
+    private final StrategySpec candidate;
+    private final StrategySpec baseline;
+    private final List<int[]> openings;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int maxGames = 10_000;
+    private long seed = 1;
+    private int openingPlies = 2;
+    private Sprt sprt;
+    private Consumer<MatchStatistics> progress;
+    private Sprt.Decision decision = Sprt.Decision.CONTINUE;
+    private double gamesPerSecond;
+
+    /**
+     * Constructs a match.
+     *
+     * @param candidate the strategy under test
+     * @param baseline  the strategy it is compared with
+     * @param openings  the openings to start games from, at least one
+     */
+    public Match(StrategySpec candidate, StrategySpec baseline, List<int[]> openings) {
+        if (openings.isEmpty()) {
+            throw new IllegalArgumentException("A match needs at least one opening");
+        }
+        this.candidate = candidate;
+        this.baseline = baseline;
+        this.openings = List.copyOf(openings);
+    }
+
+    /**
+     * Sets the number of games played at the same time. Defaults to the number of available processors.
+     *
+     * @param threads the pool size, at least 1
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the largest number of games to play, reached only if the test does not decide first.
+     *
+     * @param maxGames the game limit, at least 1
+     */
+    public void setMaxGames(int maxGames) {
+        if (maxGames < 1) {
+            throw new IllegalArgumentException("Game limit must be at least 1: " + maxGames);
+        }
+        this.maxGames = maxGames;
+    }
+
+    /**
+     * Sets the seed of the opening order and of the random moves after each opening.
+     *
+     * @param seed the match seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of random moves played after each opening. Defaults to 2.
+     *
+     * @param plies the number of random moves, at least 0
+     */
+    public void setOpeningPlies(int plies) {
+        if (plies < 0) {
+            throw new IllegalArgumentException("Opening plies must be at least 0: " + plies);
+        }
+        this.openingPlies = plies;
+    }
+
+    /**
+     * Sets the test that stops the match early, or null to always play the game limit.
+     *
+     * @param sprt the sequential test
+     */
+    public void setSprt(Sprt sprt) {
+        this.sprt = sprt;
+    }
+
+    /**
+     * Sets a callback that receives the statistics every few games while the match runs.
+     * It is called on the thread that called {@link #run()}.
+     *
+     * @param progress the callback, or null
+     */
+    public void setProgressListener(Consumer<MatchStatistics> progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the decision of the test at the end of the last {@link #run()}.
+     *
+     * @return the decision, {@link Sprt.Decision#CONTINUE} if there is no test or it did not decide
+     */
+    public Sprt.Decision getDecision() {
+        return decision;
+    }
+
+    /**
+     * Returns the throughput of the last {@link #run()}.
+     *
+     * @return finished games per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return gamesPerSecond;
+    }
+
+    /**
+     * Plays the match.
+     *
+     * @return the results from the candidate's side
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the games
+     */
+    public MatchStatistics run() throws InterruptedException {
+        // A seeded shuffle of the openings
+        int[] order = new int[openings.size()];
+        Random random = new Random(seed);
+        for (int i = 0; i < order.length; i++) {
+            int j = random.nextInt(i + 1);
+            order[i] = order[j];
+            order[j] = i;
+        }
+
+        MatchStatistics statistics = new MatchStatistics();
+        decision = Sprt.Decision.CONTINUE;
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "match-game");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<GameResult> games = new ExecutorCompletionService<>(pool);
+        long start = System.nanoTime();
+        try {
+            // Keep every thread busy with a game queued behind it
+            int submitted = 0;
+            while (submitted < Math.min(maxGames, 2 * threads)) {
+                submit(games, submitted++, order);
+            }
+            for (int finished = 0; finished < submitted; ) {
+                GameResult result = games.take().get();
+                finished++;
+                // The candidate plays black in the even games
+                statistics.add(result.getGame() % 2 == 0 ? result.getOutcome() : -result.getOutcome());
+                if (progress != null && finished % PROGRESS_INTERVAL == 0) {
+                    progress.accept(statistics);
+                }
+                if (sprt != null) {
+                    decision = sprt.decide(statistics);
+                    if (decision != Sprt.Decision.CONTINUE) {
+                        break;
+                    }
+                }
+                if (submitted < maxGames) {
+                    submit(games, submitted++, order);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A match game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        gamesPerSecond = statistics.getGames() / Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+        return statistics;
+    }
+
+    /**
+     * Queues one game. Games 2k and 2k+1 share an opening and its random moves, with the colors swapped.
+     *
+     * @param games the completion service to queue on
+     * @param game  the game index
+     * @param order the shuffled opening indices
+     */
+    private void submit(CompletionService<GameResult> games, int game, int[] order) {
+        int[] opening = openings.get(order[(game / 2) % order.length]);
+        long openingSeed = new SplittableRandom(seed + game / 2).nextLong();
+        StrategySpec black = game % 2 == 0 ? candidate : baseline;
+        StrategySpec white = game % 2 == 0 ? baseline : candidate;
+        games.submit(() -> Tournament.playGame(0, game, black, white, opening, openingSeed, openingPlies));
+    }
+
+    /**
+     * Runs a match from the command line and prints the progress, the Elo estimate and the decision of the test.
+     *
+     * @param args the options and the two strategy specs, see the class description
+     * @throws IOException          if the opening file cannot be read
+     * @throws InterruptedException if interrupted while the games run
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<int[]> openings = null;
+        Integer games = null;
+        Integer threads = null;
+        Long seed = null;
+        Integer openingPlies = null;
+        Sprt sprt = new Sprt(0, 10, 0.05, 0.05);
+        StrategySpec[] specs = new StrategySpec[2];
+        int specCount = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--openings" -> openings = Openings.read(Path.of(args[++i]));
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--opening-plies" -> openingPlies = Integer.parseInt(args[++i]);
+                case "--sprt" -> sprt = parseSprt(args[++i]);
+                default -> {
+                    if (specCount == 2) {
+                        throw new IllegalArgumentException("Expected two strategies, got another: " + args[i]);
+                    }
+                    specs[specCount++] = StrategySpec.parse(args[i]);
+                }
+            }
+        }
+        if (specCount < 2) {
+            throw new IllegalArgumentException("Usage: Match [options] CANDIDATE BASELINE");
+        }
+
+        Match match = new Match(specs[0], specs[1], openings != null ? openings : Openings.standard());
+        if (games != null) {
+            match.setMaxGames(games);
+        }
+        if (threads != null) {
+            match.setThreads(threads);
+        }
+        if (seed != null) {
+            match.setSeed(seed);
+        }
+        if (openingPlies != null) {
+            match.setOpeningPlies(openingPlies);
+        }
+        Sprt test = sprt;
+        match.setSprt(test);
+        match.setProgressListener(statistics -> System.out.println(statistics.getGames() + " games: " + statistics
+                + (test != null ? String.format(", LLR %.2f", test.llr(statistics)) : "")));
+
+        System.out.println(specs[0] + " vs " + specs[1] + (test != null ? ", " + test : ""));
+        MatchStatistics statistics = match.run();
+        System.out.println(statistics.getGames() + " games: " + statistics);
+        System.out.printf("%.2f games/s%n", match.getGamesPerSecond());
+        if (test != null) {
+            System.out.printf("LLR %.2f: %s%n", test.llr(statistics), match.getDecision());
+        }
+    }
+
+    /**
+     * Parses the {@code --sprt} option: {@code none}, {@code elo0,elo1} or {@code elo0,elo1,alpha,beta}.
+     *
+     * @param text the option value
+     * @return the test, or null for none
+     */
+    private static Sprt parseSprt(String text) {
+        if (text.equals("none")) {
+            return null;
+        }
+        String[] parts = text.split(",");
+        if (parts.length != 2 && parts.length != 4) {
+            throw new IllegalArgumentException("Expected elo0,elo1[,alpha,beta]: " + text);
+        }
+        double alpha = parts.length == 4 ? Double.parseDouble(parts[2]) : 0.05;
+        double beta = parts.length == 4 ? Double.parseDouble(parts[3]) : 0.05;
+        return new Sprt(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), alpha, beta);
+    }
+}
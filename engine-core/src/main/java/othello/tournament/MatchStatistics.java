@@ -0,0 +1,196 @@
+package othello.tournament;
+
+/**
+ * Counts the wins, draws and losses of one strategy against another, and estimates the Elo difference
+ * between them with a confidence interval.
+ *
+ * <p>The Elo difference follows from the mean score {@code s} (a win is 1, a draw 1/2, a loss 0) with the
+ * logistic model {@code s = 1 / (1 + 10^(-elo / 400))}. The interval is the normal approximation of the
+ * mean score, mapped through the same model. Instances are not thread-safe.
+ */
+public class MatchStatistics {
+    // Two-sided 95% quantile of the normal distribution
+    private static final double Z_95 = 1.959963984540054;
+
+    private int wins;
+    private int draws;
+    private int losses;
+
+    /**
+     * Records one game.
+     *
+     * @param outcome 1 for a win, 0 for a draw, -1 for a loss, from the side of the first strategy
+     */
+    public void add(int outcome) {
+        if (outcome > 0) {
+            wins++;
+        } else if (outcome == 0) {
+            draws++;
+        } else {
+            losses++;
+        }
+    }
+
+    /**
+     * Returns the number of games won.
+     *
+     * @return the wins
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the number of games drawn.
+     *
+     * @return the draws
+     */
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Returns the number of games lost.
+     *
+     * @return the losses
+     */
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * Returns the number of games recorded.
+     *
+     * @return the games
+     */
+    public int getGames() {
+        return wins + draws + losses;
+    }
+
+    /**
+     * Returns the mean score per game.
+     *
+     * @return the score in [0, 1], or 0.5 before any game
+     */
+    public double getScore() {
+        int games = getGames();
+        return games == 0 ? 0.5 : (wins + 0.5 * draws) / games;
+    }
+
+    /**
+     * Returns the variance of the score of a single game, estimated from the results so far.
+     *
+     * @return the per-game variance
+     */
+    public double getVariance() {
+        int games = getGames();
+        if (games == 0) {
+            return 0;
+        }
+        double score = getScore();
+        return (wins * (1 - score) * (1 - score) + draws * (0.5 - score) * (0.5 - score)
+                + losses * score * score) / games;
+    }
+
+    /**
+     * Returns the estimated Elo difference.
+     *
+     * @return the Elo difference, infinite if every game was won or lost
+     */
+    public double getElo() {
+        return scoreToElo(getScore());
+    }
+
+    /**
+     * Returns the lower end of the 95% confidence interval of the Elo difference.
+     *
+     * @return the lower bound
+     */
+    public double getEloLower() {
+        return scoreToElo(getScore() - Z_95 * getStandardError());
+    }
+
+    /**
+     * Returns the upper end of the 95% confidence interval of the Elo difference.
+     *
+     * @return the upper bound
+     */
+    public double getEloUpper() {
+        return scoreToElo(getScore() + Z_95 * getStandardError());
+    }
+
+    /**
+     * Returns the likelihood of superiority: the probability that the first strategy is the stronger one.
+     * Draws carry no information about this and are left out.
+     *
+     * @return the probability in [0, 1]
+     */
+    public double getLikelihoodOfSuperiority() {
+        if (wins + losses == 0) {
+            return 0.5;
+        }
+        return normalCdf((wins - losses) / Math.sqrt(wins + losses));
+    }
+
+    /**
+     * Returns the standard error of the mean score.
+     *
+     * @return the standard error
+     */
+    private double getStandardError() {
+        int games = getGames();
+        return games == 0 ? 0 : Math.sqrt(getVariance() / games);
+    }
+
+    /**
+     * Converts a mean score to an Elo difference with the logistic model.
+     *
+     * @param score the mean score
+     * @return the Elo difference, infinite at or beyond a score of 0 or 1
+     */
+    public static double scoreToElo(double score) {
+        if (score <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (score >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    /**
+     * Converts an Elo difference to the expected mean score with the logistic model.
+     *
+     * @param elo the Elo difference
+     * @return the expected score in [0, 1]
+     */
+    public static double eloToScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    /**
+     * The cumulative distribution function of the standard normal distribution,
+     * from the complementary error function (Numerical Recipes erfc, accurate to about 1e-7).
+     *
+     * @param x the value
+     * @return the probability of a standard normal value at most x
+     */
+    private static double normalCdf(double x) {
+        double z = Math.abs(x) / Math.sqrt(2);
+        double t = 1 / (1 + 0.5 * z);
+        double erfc = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? 1 - erfc / 2 : erfc / 2;
+    }
+
+    /**
+     * Returns the results and the Elo estimate as one line.
+     *
+     * @return a summary such as "+12 =3 -5, 60.0%, Elo 70.4 [-20.1, 167.0], LOS 95.6%"
+     */
+    @Override
+    public String toString() {
+        return String.format("+%d =%d -%d, %.1f%%, Elo %.1f [%.1f, %.1f], LOS %.1f%%", wins, draws, losses,
+                100 * getScore(), getElo(), getEloLower(), getEloUpper(), 100 * getLikelihoodOfSuperiority());
+    }
+}
@@ -0,0 +1,130 @@
+package othello.tournament;
+
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.Perft;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads opening lines for matches. A file has one opening per line, written as moves in the usual notation:
+ * a column letter a-h and a row digit 1-8, for example {@code f5d6c3d3c4} or {@code f5 d6 c3 d3 c4}.
+ * The column is {@link othello.gamelogic.BoardSpace#getX()} and the row is {@link othello.gamelogic.BoardSpace#getY()}.
+ * Blank lines and everything after a {@code #} are ignored. Black moves first, and every move must be legal;
+ * openings with a pass are not supported.
+ */
+public final class Openings {
+    /** The openings shipped with the game, as a classpath resource. */
+    public static final String STANDARD_RESOURCE = "/othello/tournament/openings.txt";
+
+    private Openings() {
+    }
+
+    /**
+     * Parses one opening line.
+     *
+     * @param line the moves
+     * @return the squares of the moves, in order
+     * @throws IllegalArgumentException if a move is malformed or illegal
+     */
+    public static int[] parse(String line) {
+        String moves = line.replaceAll("\\s", "").toLowerCase();
+        if (moves.length() % 2 != 0) {
+            throw new IllegalArgumentException("Incomplete move in opening: " + line);
+        }
+        Bitboard start = Perft.startPosition();
+        long player = start.getPlayer();
+        long opponent = start.getOpponent();
+        int[] squares = new int[moves.length() / 2];
+        for (int i = 0; i < squares.length; i++) {
+            int x = moves.charAt(2 * i) - 'a';
+            int y = moves.charAt(2 * i + 1) - '1';
+            if (x < 0 || x >= 8 || y < 0 || y >= 8) {
+                throw new IllegalArgumentException("Bad move '" + moves.substring(2 * i, 2 * i + 2) + "' in " + line);
+            }
+            int square = Bitboard.square(x, y);
+            if ((Bitboard.legalMoves(player, opponent) & 1L << square) == 0) {
+                throw new IllegalArgumentException("Illegal move '" + moves.substring(2 * i, 2 * i + 2) + "' in " + line);
+            }
+            long flipped = Bitboard.flips(player, opponent, square);
+            long temp = player | flipped | (1L << square);
+            player = opponent & ~flipped;
+            opponent = temp;
+            squares[i] = square;
+        }
+        return squares;
+    }
+
+    /**
+     * Writes an opening in the notation {@link #parse(String)} reads.
+     *
+     * @param squares the squares of the moves
+     * @return the moves, such as "f5d6c3"
+     */
+    public static String toNotation(int[] squares) {
+        StringBuilder text = new StringBuilder();
+        for (int square : squares) {
+            text.append((char) ('a' + Bitboard.row(square))).append((char) ('1' + Bitboard.col(square)));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Reads every opening from a reader.
+     *
+     * @param in the opening lines
+     * @return the openings, in file order
+     * @throws IOException              if reading fails
+     * @throws IllegalArgumentException if a line is not a valid opening
+     */
+    public static List<int[]> read(Reader in) throws IOException {
+        List<int[]> openings = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(in);
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            int comment = line.indexOf('#');
+            String moves = (comment < 0 ? line : line.substring(0, comment)).strip();
+            if (!moves.isEmpty()) {
+                openings.add(parse(moves));
+            }
+        }
+        return openings;
+    }
+
+    /**
+     * Reads every opening from a file.
+     *
+     * @param file the opening file
+     * @return the openings, in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<int[]> read(Path file) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Returns the openings shipped with the game.
+     *
+     * @return the standard openings
+     */
+    public static List<int[]> standard() {
+        try (InputStream in = Openings.class.getResourceAsStream(STANDARD_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing resource " + STANDARD_RESOURCE);
+            }
+            return read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package othello.tournament;
+
+/**
+ * A sequential probability ratio test between two Elo hypotheses: H0, the true difference is {@code elo0},
+ * and H1, it is {@code elo1}. After every game the log-likelihood ratio of the results is compared with two
+ * bounds set by the error rates, and the match stops as soon as it crosses one. A clear difference is
+ * accepted after few games, while a close one takes as many as it needs.
+ *
+ * <p>The ratio uses the normal approximation of the generalized SPRT, so draws need no separate model:
+ * {@code LLR = n (s1 - s0) (2 s - s0 - s1) / (2 var)}, where {@code s} and {@code var} are the mean score and
+ * per-game variance so far, and {@code s0}, {@code s1} are the scores the two hypotheses predict.
+ * While every game has ended the same way the variance is 0, so one win and one loss are added to estimate it.
+ */
+public class Sprt {
+    /**
+     * The state of the test.
+     */
+    public enum Decision {
+        /** Neither bound has been crossed yet; keep playing. */
+        CONTINUE,
+        /** The ratio fell below the lower bound: H0 is accepted, the change is not an improvement of elo1. */
+        ACCEPT_H0,
+        /** The ratio rose above the upper bound: H1 is accepted, the change gains at least about elo1. */
+        ACCEPT_H1
+    }
+
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    /**
+     * Constructs a test.
+     *
+     * @param elo0  the Elo difference of the null hypothesis, usually 0
+     * @param elo1  the Elo difference of the alternative hypothesis, greater than elo0
+     * @param alpha the probability of accepting H1 when H0 holds, in (0, 1)
+     * @param beta  the probability of accepting H0 when H1 holds, in (0, 1)
+     */
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        if (!(elo1 > elo0)) {
+            throw new IllegalArgumentException("elo1 must be greater than elo0: " + elo0 + ", " + elo1);
+        }
+        if (!(alpha > 0 && alpha < 1 && beta > 0 && beta < 1)) {
+            throw new IllegalArgumentException("Error rates must be in (0, 1): " + alpha + ", " + beta);
+        }
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    /**
+     * Returns the bound below which H0 is accepted.
+     *
+     * @return the lower bound of the log-likelihood ratio
+     */
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns the bound above which H1 is accepted.
+     *
+     * @return the upper bound of the log-likelihood ratio
+     */
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Computes the log-likelihood ratio of H1 against H0 for the results so far.
+     *
+     * @param statistics the results
+     * @return the log-likelihood ratio, 0 before the first game
+     */
+    public double llr(MatchStatistics statistics) {
+        if (statistics.getGames() == 0) {
+            return 0;
+        }
+        double variance = statistics.getVariance();
+        if (variance == 0) {
+            variance = regularizedVariance(statistics);
+        }
+        double s0 = MatchStatistics.eloToScore(elo0);
+        double s1 = MatchStatistics.eloToScore(elo1);
+        return statistics.getGames() * (s1 - s0) * (2 * statistics.getScore() - s0 - s1) / (2 * variance);
+    }
+
+    /**
+     * Returns the per-game variance of the results with one win and one loss added. Used when every game ended
+     * the same way, where the plain variance is 0 and would leave the ratio undefined; the added games give a
+     * spread that shrinks as the identical results pile up, so all wins, all draws or all losses still cross
+     * a bound after a few dozen to a hundred or so games.
+     *
+     * @param statistics the results
+     * @return the regularized variance, greater than 0
+     */
+    private static double regularizedVariance(MatchStatistics statistics) {
+        int wins = statistics.getWins() + 1;
+        int draws = statistics.getDraws();
+        int losses = statistics.getLosses() + 1;
+        int games = wins + draws + losses;
+        double score = (wins + 0.5 * draws) / games;
+        return (wins * (1 - score) * (1 - score) + draws * (0.5 - score) * (0.5 - score)
+                + losses * score * score) / games;
+    }
+
+    /**
+     * Decides whether the results are enough to accept one of the hypotheses.
+     *
+     * @param statistics the results
+     * @return the decision
+     */
+    public Decision decide(MatchStatistics statistics) {
+        double llr = llr(statistics);
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        } else if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+    /**
+     * Returns the hypotheses and bounds.
+     *
+     * @return a summary such as "SPRT elo0=0.0 elo1=10.0 bounds [-2.94, 2.94]"
+     */
+    @Override
+    public String toString() {
+        return String.format("SPRT elo0=%.1f elo1=%.1f bounds [%.2f, %.2f]", elo0, elo1, lowerBound, upperBound);
+    }
+}
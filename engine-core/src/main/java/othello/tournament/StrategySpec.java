@@ -0,0 +1,258 @@
+package othello.tournament;
+
+import othello.gamelogic.CustomStrategy;
+import othello.gamelogic.ExpectimaxStrategy;
+import othello.gamelogic.MCTSStrategy;
+import othello.gamelogic.MinimaxStrategy;
+import othello.gamelogic.Strategy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A strategy name with its settings, written as {@code name} or {@code name:key=value,key=value},
+ * for example {@code custom:depth=4,algorithm=pvs} or {@code mcts:time=50,parallelism=tree,threads=2}.
+ * The names are the ones accepted by the application: minimax, expectimax, mcts and custom.
+ *
+ * <p>Strategies keep search state between moves, so a spec creates a fresh instance for every game.
+ *
+ * <table>
+ *   <caption>Settings per strategy</caption>
+ *   <tr><th>strategy</th><th>keys</th></tr>
+ *   <tr><td>minimax</td><td>depth</td></tr>
+ *   <tr><td>expectimax</td><td>depth, time (ms), temperature</td></tr>
+ *   <tr><td>mcts</td><td>iterations, time (ms), parallelism (none, root, tree), threads</td></tr>
+ *   <tr><td>custom</td><td>depth, time (ms), algorithm (alphabeta, pvs), threads, hash (MB), endgame (empties)</td></tr>
+ * </table>
+ */
+public final class StrategySpec {
+    private final String name;
+    private final Map<String, String> options;
+
+    /**
+     * Constructs a spec from a name and settings, checking that the strategy accepts them.
+     *
+     * @param name    the strategy name
+     * @param options the settings, in the order given
+     * @throws IllegalArgumentException if the name, a key or a value is not valid
+     */
+    public StrategySpec(String name, Map<String, String> options) {
+        this.name = name;
+        this.options = Collections.unmodifiableMap(new LinkedHashMap<>(options));
+        create();  // fail now rather than in the middle of a tournament
+    }
+
+    /**
+     * Parses a spec written as {@code name} or {@code name:key=value,key=value}.
+     *
+     * @param text the spec
+     * @return the parsed spec
+     * @throws IllegalArgumentException if the spec is malformed or not valid for the strategy
+     */
+    public static StrategySpec parse(String text) {
+        int colon = text.indexOf(':');
+        String name = colon < 0 ? text : text.substring(0, colon);
+        Map<String, String> options = new LinkedHashMap<>();
+        if (colon >= 0 && colon < text.length() - 1) {
+            for (String option : text.substring(colon + 1).split(",")) {
+                int equals = option.indexOf('=');
+                if (equals <= 0 || equals == option.length() - 1) {
+                    throw new IllegalArgumentException("Expected key=value in '" + text + "': " + option);
+                }
+                options.put(option.substring(0, equals).trim(), option.substring(equals + 1).trim());
+            }
+        }
+        return new StrategySpec(name.trim(), options);
+    }
+
+    /**
+     * Returns the strategy name.
+     *
+     * @return the name, such as "custom"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the settings of the strategy.
+     *
+     * @return the settings, in the order given
+     */
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    /**
+     * Creates a new strategy with these settings.
+     *
+     * @return a fresh strategy instance
+     * @throws IllegalArgumentException if the name, a key or a value is not valid
+     */
+    public Strategy create() {
+        return switch (name) {
+            case "minimax" -> createMinimax();
+            case "expectimax" -> createExpectimax();
+            case "mcts" -> createMcts();
+            case "custom" -> createCustom();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+
+    /**
+     * Creates a minimax strategy with these settings.
+     *
+     * @return the strategy
+     */
+    private Strategy createMinimax() {
+        MinimaxStrategy strategy = new MinimaxStrategy();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            switch (option.getKey()) {
+                case "depth" -> strategy.setMaxDepth(intValue(option));
+                default -> throw unknownKey(option);
+            }
+        }
+        return strategy;
+    }
+
+    /**
+     * Creates an expectimax strategy with these settings.
+     *
+     * @return the strategy
+     */
+    private Strategy createExpectimax() {
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            switch (option.getKey()) {
+                case "depth" -> strategy.setMaxDepth(intValue(option));
+                case "time" -> strategy.setTimeBudgetMillis(intValue(option));
+                case "temperature" -> strategy.setTemperature(doubleValue(option));
+                default -> throw unknownKey(option);
+            }
+        }
+        return strategy;
+    }
+
+    /**
+     * Creates an MCTS strategy with these settings.
+     *
+     * @return the strategy
+     */
+    private Strategy createMcts() {
+        MCTSStrategy strategy = new MCTSStrategy();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            switch (option.getKey()) {
+                case "iterations" -> strategy.setMaxIterations(intValue(option));
+                case "time" -> strategy.setTimeBudgetMillis(intValue(option));
+                case "parallelism" -> strategy.setParallelism(enumValue(option, MCTSStrategy.Parallelism.class));
+                case "threads" -> strategy.setThreads(intValue(option));
+                default -> throw unknownKey(option);
+            }
+        }
+        return strategy;
+    }
+
+    /**
+     * Creates a custom (alpha-beta) strategy with these settings.
+     *
+     * @return the strategy
+     */
+    private Strategy createCustom() {
+        CustomStrategy strategy = new CustomStrategy();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            switch (option.getKey()) {
+                case "depth" -> strategy.setMaxDepth(intValue(option));
+                case "time" -> strategy.setTimeBudgetMillis(intValue(option));
+                case "algorithm" -> strategy.setSearchAlgorithm(option.getValue().equalsIgnoreCase("alphabeta")
+                        ? CustomStrategy.SearchAlgorithm.ALPHA_BETA
+                        : enumValue(option, CustomStrategy.SearchAlgorithm.class));
+                case "threads" -> strategy.setThreads(intValue(option));
+                case "hash" -> strategy.setHashSizeMegabytes(intValue(option));
+                case "endgame" -> strategy.setEndgameEmpties(intValue(option));
+                default -> throw unknownKey(option);
+            }
+        }
+        return strategy;
+    }
+
+    /**
+     * Parses a non-negative integer setting.
+     *
+     * @param option the setting
+     * @return its value
+     */
+    private static int intValue(Map.Entry<String, String> option) {
+        try {
+            int value = Integer.parseInt(option.getValue());
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Expected a non-negative integer for " + option.getKey() + ": "
+                + option.getValue());
+    }
+
+    /**
+     * Parses a decimal setting.
+     *
+     * @param option the setting
+     * @return its value
+     */
+    private static double doubleValue(Map.Entry<String, String> option) {
+        try {
+            return Double.parseDouble(option.getValue());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number for " + option.getKey() + ": " + option.getValue());
+        }
+    }
+
+    /**
+     * Parses an enum setting, ignoring case.
+     *
+     * @param option the setting
+     * @param type   the enum class
+     * @param <E>    the enum type
+     * @return the constant named by the value
+     */
+    private static <E extends Enum<E>> E enumValue(Map.Entry<String, String> option, Class<E> type) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(option.getValue())) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown value for " + option.getKey() + ": " + option.getValue());
+    }
+
+    /**
+     * Builds the error for a key the strategy does not have.
+     *
+     * @param option the setting
+     * @return the exception to throw
+     */
+    private IllegalArgumentException unknownKey(Map.Entry<String, String> option) {
+        return new IllegalArgumentException("Unknown setting for " + name + ": " + option.getKey());
+    }
+
+    /**
+     * Returns the spec in the form {@link #parse(String)} reads.
+     *
+     * @return the spec as text
+     */
+    @Override
+    public String toString() {
+        if (options.isEmpty()) {
+            return name;
+        }
+        StringBuilder text = new StringBuilder(name).append(':');
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (text.charAt(text.length() - 1) != ':') {
+                text.append(',');
+            }
+            text.append(option.getKey()).append('=').append(option.getValue());
+        }
+        return text.toString();
+    }
+}
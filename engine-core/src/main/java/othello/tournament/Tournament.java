@@ -0,0 +1,418 @@
+package othello.tournament;
+
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.HumanPlayer;
+import othello.gamelogic.OthelloGame;
+import othello.gamelogic.Player;
+import othello.gamelogic.Strategy;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Plays engine-versus-engine games without the GUI, so it runs on machines without a display.
+ * Every pair of strategies plays a number of games on a fixed thread pool. Games come in pairs that start
+ * from the same random opening with the colors swapped, so neither strategy gets the better openings.
+ * The openings are derived from a seed, so a tournament of deterministic strategies can be replayed exactly.
+ *
+ * <p>Run from the command line with
+ * {@code Tournament [--games N] [--threads T] [--seed S] [--opening-plies K] [--csv FILE] [--json FILE] SPEC SPEC...},
+ * where each SPEC is a {@link StrategySpec} such as {@code custom:depth=4}.
+ * Nothing here touches JavaFX.
+ */
+public class Tournament {
+    private static final int[] NO_MOVES = new int[0];
+
+    private final List<StrategySpec> specs;
+    private int gamesPerPairing = 10;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1;
+    private int openingPlies = 4;
+    private double gamesPerSecond;
+
+    /**
+     * Constructs a round-robin tournament between the given strategies.
+     *
+     * @param specs the strategies, at least two
+     */
+    public Tournament(List<StrategySpec> specs) {
+        if (specs.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+        this.specs = List.copyOf(specs);
+    }
+
+    /**
+     * Sets the number of games each pair of strategies plays. Odd numbers leave the last opening unswapped.
+     *
+     * @param games the games per pairing, at least 1
+     */
+    public void setGamesPerPairing(int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException("Games per pairing must be at least 1: " + games);
+        }
+        this.gamesPerPairing = games;
+    }
+
+    /**
+     * Sets the number of games played at the same time. Defaults to the number of available processors.
+     *
+     * @param threads the pool size, at least 1
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the seed from which the openings of all games are derived.
+     *
+     * @param seed the tournament seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of random moves played from the starting position before the strategies take over.
+     *
+     * @param plies the number of random opening moves, at least 0
+     */
+    public void setOpeningPlies(int plies) {
+        if (plies < 0) {
+            throw new IllegalArgumentException("Opening plies must be at least 0: " + plies);
+        }
+        this.openingPlies = plies;
+    }
+
+    /**
+     * Returns the throughput of the last {@link #run()}.
+     *
+     * @return finished games per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return gamesPerSecond;
+    }
+
+    /**
+     * Plays every game of the tournament.
+     *
+     * @return the results, ordered by pairing and then by game, whatever order the games finished in
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the games
+     */
+    public List<GameResult> run() throws InterruptedException {
+        List<Callable<GameResult>> games = new ArrayList<>();
+        int pairing = 0;
+        for (int i = 0; i < specs.size(); i++) {
+            for (int j = i + 1; j < specs.size(); j++) {
+                for (int game = 0; game < gamesPerPairing; game++) {
+                    // Both games of a pair share the opening, and the second swaps the colors.
+                    // Every pairing gets the same openings, so their scores can be compared.
+                    long openingSeed = new SplittableRandom(seed + game / 2).nextLong();
+                    StrategySpec black = game % 2 == 0 ? specs.get(i) : specs.get(j);
+                    StrategySpec white = game % 2 == 0 ? specs.get(j) : specs.get(i);
+                    int pairingIndex = pairing;
+                    int gameIndex = game;
+                    games.add(() -> playGame(pairingIndex, gameIndex, black, white, NO_MOVES, openingSeed, openingPlies));
+                }
+                pairing++;
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tournament-game");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        List<GameResult> results = new ArrayList<>(games.size());
+        try {
+            for (Future<GameResult> future : pool.invokeAll(games)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        gamesPerSecond = results.size() / Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+        return results;
+    }
+
+    /**
+     * Plays one game: the given opening moves, then random moves from the seed, then the two strategies in turn
+     * until neither can move.
+     *
+     * @param pairing      the index of the pairing
+     * @param game         the index of the game within the pairing
+     * @param blackSpec    the strategy playing black, which moves first
+     * @param whiteSpec    the strategy playing white
+     * @param openingMoves the squares of the first moves, legal and without passes, see {@link Openings}
+     * @param openingSeed  the seed of the random opening moves
+     * @param openingPlies the number of random moves after the given ones
+     * @return the result of the game
+     */
+    static GameResult playGame(int pairing, int game, StrategySpec blackSpec, StrategySpec whiteSpec,
+                               int[] openingMoves, long openingSeed, int openingPlies) {
+        return playGame(pairing, game, blackSpec, whiteSpec, openingMoves, openingSeed, openingPlies, null);
+    }
+
+    /**
+     * Plays one game like {@link #playGame(int, int, StrategySpec, StrategySpec, int[], long, int)}, and shows
+     * every position to an observer as it is reached: the start position, the position after every move, and
+     * the final position once more with {@link GameSnapshot#isFinished()} set. The observer is called on the
+     * thread playing the game, which waits for it, so it should only hand the snapshot on.
+     *
+     * @param pairing      the index of the pairing
+     * @param game         the index of the game within the pairing
+     * @param blackSpec    the strategy playing black, which moves first
+     * @param whiteSpec    the strategy playing white
+     * @param openingMoves the squares of the first moves, legal and without passes, see {@link Openings}
+     * @param openingSeed  the seed of the random opening moves
+     * @param openingPlies the number of random moves after the given ones
+     * @param observer     the observer of the positions, or null
+     * @return the result of the game
+     */
+    public static GameResult playGame(int pairing, int game, StrategySpec blackSpec, StrategySpec whiteSpec,
+                                      int[] openingMoves, long openingSeed, int openingPlies,
+                                      Consumer<GameSnapshot> observer) {
+        Player black = new HumanPlayer();
+        Player white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+        OthelloGame othelloGame = new OthelloGame(black, white);
+        Strategy blackStrategy = blackSpec.create();
+        Strategy whiteStrategy = whiteSpec.create();
+        Random opening = new Random(openingSeed);
+
+        Player current = black;
+        Player other = white;
+        int moves = 0;
+        long[] nanos = new long[2];
+        int[] buffer = new int[Bitboard.NUM_SQUARES];
+        boolean passed = false;
+        int lastMove = Bitboard.PASS;
+        if (observer != null) {
+            observer.accept(snapshot(othelloGame, moves, lastMove, false));
+        }
+        while (true) {
+            BoardSpace[][] board = othelloGame.getBoard();
+            int count = current.getAvailableMoves(board, buffer);
+            if (count == 0) {
+                if (passed) {
+                    break;  // neither side can move
+                }
+                passed = true;
+            } else {
+                passed = false;
+                int square;
+                if (moves < openingMoves.length) {
+                    square = openingMoves[moves];
+                } else if (moves < openingMoves.length + openingPlies) {
+                    square = buffer[opening.nextInt(count)];
+                } else {
+                    Strategy strategy = current == black ? blackStrategy : whiteStrategy;
+                    long begin = System.nanoTime();
+                    BoardSpace move = strategy.selectMove(board, current, other);
+                    nanos[current == black ? 0 : 1] += System.nanoTime() - begin;
+                    if (move == null || (current.getMoveMask(board) & 1L << Bitboard.square(move.getX(), move.getY())) == 0) {
+                        throw new IllegalStateException((current == black ? blackSpec : whiteSpec)
+                                + " chose an illegal move: " + move);
+                    }
+                    square = Bitboard.square(move.getX(), move.getY());
+                }
+                othelloGame.takeSpaces(current, other, square);
+                moves++;
+                lastMove = square;
+                if (observer != null) {
+                    observer.accept(snapshot(othelloGame, moves, lastMove, false));
+                }
+            }
+            Player temp = current;
+            current = other;
+            other = temp;
+        }
+        if (observer != null) {
+            observer.accept(snapshot(othelloGame, moves, lastMove, true));
+        }
+        return new GameResult(pairing, game, blackSpec, whiteSpec, openingSeed,
+                othelloGame.getDiscCount(BoardSpace.SpaceType.BLACK), othelloGame.getDiscCount(BoardSpace.SpaceType.WHITE),
+                moves, nanos[0], nanos[1]);
+    }
+
+    /**
+     * Takes a snapshot of a game.
+     *
+     * @param othelloGame the game
+     * @param moves       the moves played so far
+     * @param lastMove    the square of the last move
+     * @param finished    whether the game is over
+     * @return the snapshot
+     */
+    private static GameSnapshot snapshot(OthelloGame othelloGame, int moves, int lastMove, boolean finished) {
+        return new GameSnapshot(othelloGame.getDiscs(BoardSpace.SpaceType.BLACK),
+                othelloGame.getDiscs(BoardSpace.SpaceType.WHITE), moves, lastMove, finished);
+    }
+
+    /**
+     * Writes results as CSV, one game per line after a header line.
+     *
+     * @param results the results to write
+     * @param out     where to write them
+     */
+    public static void writeCsv(List<GameResult> results, Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("pairing,game,black,white,opening_seed,black_discs,white_discs,outcome,moves,black_ms,white_ms");
+        for (GameResult result : results) {
+            writer.printf(Locale.ROOT, "%d,%d,\"%s\",\"%s\",%d,%d,%d,%d,%d,%.3f,%.3f%n",
+                    result.getPairing(), result.getGame(), result.getBlack(), result.getWhite(),
+                    result.getOpeningSeed(), result.getBlackDiscs(), result.getWhiteDiscs(), result.getOutcome(),
+                    result.getMoves(), result.getBlackNanos() / 1e6, result.getWhiteNanos() / 1e6);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes results as a JSON array, one object per game.
+     *
+     * @param results the results to write
+     * @param out     where to write them
+     */
+    public static void writeJson(List<GameResult> results, Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("[");
+        for (int i = 0; i < results.size(); i++) {
+            GameResult result = results.get(i);
+            writer.printf(Locale.ROOT, "  {\"pairing\": %d, \"game\": %d, \"black\": \"%s\", \"white\": \"%s\", "
+                            + "\"openingSeed\": %d, \"blackDiscs\": %d, \"whiteDiscs\": %d, \"outcome\": %d, "
+                            + "\"moves\": %d, \"blackMillis\": %.3f, \"whiteMillis\": %.3f}%s%n",
+                    result.getPairing(), result.getGame(), jsonEscape(result.getBlack().toString()),
+                    jsonEscape(result.getWhite().toString()), result.getOpeningSeed(), result.getBlackDiscs(),
+                    result.getWhiteDiscs(), result.getOutcome(), result.getMoves(), result.getBlackNanos() / 1e6,
+                    result.getWhiteNanos() / 1e6, i < results.size() - 1 ? "," : "");
+        }
+        writer.println("]");
+        writer.flush();
+    }
+
+    /**
+     * Escapes quotes and backslashes for a JSON string.
+     *
+     * @param text the text to escape
+     * @return the escaped text
+     */
+    private static String jsonEscape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Prints the score of every pairing: wins, draws and losses of the first strategy against the second.
+     *
+     * @param results the results of a tournament
+     * @param out     where to print
+     */
+    public static void printSummary(List<GameResult> results, PrintWriter out) {
+        int start = 0;
+        while (start < results.size()) {
+            int end = start;
+            while (end < results.size() && results.get(end).getPairing() == results.get(start).getPairing()) {
+                end++;
+            }
+            // The first game of a pairing has the first strategy as black
+            StrategySpec first = results.get(start).getBlack();
+            StrategySpec second = results.get(start).getWhite();
+            int wins = 0;
+            int draws = 0;
+            int losses = 0;
+            for (GameResult result : results.subList(start, end)) {
+                int outcome = result.getBlack() == first ? result.getOutcome() : -result.getOutcome();
+                if (outcome > 0) {
+                    wins++;
+                } else if (outcome == 0) {
+                    draws++;
+                } else {
+                    losses++;
+                }
+            }
+            out.printf("%s vs %s: +%d =%d -%d (%.1f%%)%n", first, second, wins, draws, losses,
+                    100.0 * (wins + 0.5 * draws) / (end - start));
+            start = end;
+        }
+        out.flush();
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the score of every pairing and the throughput.
+     *
+     * @param args the options and strategy specs, see the class description
+     * @throws IOException          if a result file cannot be written
+     * @throws InterruptedException if interrupted while the games run
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<StrategySpec> specs = new ArrayList<>();
+        Integer games = null;
+        Integer threads = null;
+        Long seed = null;
+        Integer openingPlies = null;
+        Path csv = null;
+        Path json = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--opening-plies" -> openingPlies = Integer.parseInt(args[++i]);
+                case "--csv" -> csv = Path.of(args[++i]);
+                case "--json" -> json = Path.of(args[++i]);
+                default -> specs.add(StrategySpec.parse(args[i]));
+            }
+        }
+        Tournament tournament = new Tournament(specs);
+        if (games != null) {
+            tournament.setGamesPerPairing(games);
+        }
+        if (threads != null) {
+            tournament.setThreads(threads);
+        }
+        if (seed != null) {
+            tournament.setSeed(seed);
+        }
+        if (openingPlies != null) {
+            tournament.setOpeningPlies(openingPlies);
+        }
+
+        List<GameResult> results = tournament.run();
+        PrintWriter out = new PrintWriter(System.out);
+        printSummary(results, out);
+        out.printf("%d games, %.2f games/s%n", results.size(), tournament.getGamesPerSecond());
+        out.flush();
+        if (csv != null) {
+            try (Writer writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                writeCsv(results, writer);
+            }
+        }
+        if (json != null) {
+            try (Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+                writeJson(results, writer);
+            }
+        }
+    }
+}
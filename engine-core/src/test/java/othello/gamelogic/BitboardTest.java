@@ -0,0 +1,168 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link Bitboard} class.
+ * Move generation and flips are checked against {@link Player#getAvailableMoves(BoardSpace[][])}
+ * and {@link OthelloGame#takeSpaces(Player, Player, Map, BoardSpace)} on random games.
+ */
+public class BitboardTest {
+    private Player player1;
+    private Player player2;
+    private OthelloGame game;
+
+    /**
+     * Creates a fresh game with the standard starting position before each test.
+     */
+    @Before
+    public void setUp() {
+        player1 = new HumanPlayer();
+        player2 = new HumanPlayer();
+        player1.setColor(BoardSpace.SpaceType.BLACK);
+        player2.setColor(BoardSpace.SpaceType.WHITE);
+        game = new OthelloGame(player1, player2);
+    }
+
+    /**
+     * Tests the legal moves of the starting position.
+     */
+    @Test
+    public void testInitialMoves() {
+        Bitboard bitboard = new Bitboard(game.getBoard(), BoardSpace.SpaceType.BLACK, BoardSpace.SpaceType.WHITE);
+        long expected = (1L << Bitboard.square(2, 3)) | (1L << Bitboard.square(3, 2))
+                | (1L << Bitboard.square(4, 5)) | (1L << Bitboard.square(5, 4));
+        assertEquals(expected, bitboard.legalMoves());
+        assertEquals(1L << Bitboard.square(3, 3), bitboard.flips(Bitboard.square(2, 3)));
+    }
+
+    /**
+     * Tests that an illegal move flips nothing.
+     */
+    @Test
+    public void testIllegalMoveFlipsNothing() {
+        Bitboard bitboard = new Bitboard(game.getBoard(), BoardSpace.SpaceType.BLACK, BoardSpace.SpaceType.WHITE);
+        assertEquals(0L, bitboard.flips(Bitboard.square(0, 0)));
+        assertEquals(0L, bitboard.flips(Bitboard.square(2, 2)));
+    }
+
+    /**
+     * Tests that discs on the edge of the board do not wrap around to the next row.
+     */
+    @Test
+    public void testNoWrapAround() {
+        // BLACK at (0,6), WHITE at (0,7): (1,0) must not be a move through the wrap
+        long black = 1L << Bitboard.square(0, 6);
+        long white = 1L << Bitboard.square(0, 7);
+        assertEquals(0L, Bitboard.legalMoves(black, white));
+    }
+
+    /**
+     * Plays random games and checks every position against the array-based implementation.
+     */
+    @Test
+    public void testMatchesArrayImplementation() {
+        Random rand = new Random(5940);
+        for (int gameNum = 0; gameNum < 50; gameNum++) {
+            game.initBoard();
+            Player current = player1;
+            Player other = player2;
+            int passes = 0;
+            while (passes < 2) {
+                BoardSpace[][] board = game.getBoard();
+                long own = Bitboard.mask(board, current.getColor());
+                long opp = Bitboard.mask(board, other.getColor());
+                Map<BoardSpace, List<BoardSpace>> availableMoves = current.getAvailableMoves(board);
+
+                long expectedMoves = 0L;
+                for (BoardSpace move : availableMoves.keySet()) {
+                    expectedMoves |= 1L << Bitboard.square(move.getX(), move.getY());
+                }
+                assertEquals(expectedMoves, Bitboard.legalMoves(own, opp));
+
+                if (availableMoves.isEmpty()) {
+                    passes++;
+                } else {
+                    passes = 0;
+                    BoardSpace[] moves = availableMoves.keySet().toArray(new BoardSpace[0]);
+                    BoardSpace move = moves[rand.nextInt(moves.length)];
+                    int square = Bitboard.square(move.getX(), move.getY());
+                    long flipped = Bitboard.flips(own, opp, square);
+
+                    game.takeSpaces(current, other, availableMoves, move);
+                    assertEquals(own | flipped | (1L << square), Bitboard.mask(board, current.getColor()));
+                    assertEquals(opp & ~flipped, Bitboard.mask(board, other.getColor()));
+                }
+                Player temp = current;
+                current = other;
+                other = temp;
+            }
+            BoardSpace[][] board = game.getBoard();
+            assertTrue(Bitboard.isGameOver(Bitboard.mask(board, BoardSpace.SpaceType.BLACK),
+                    Bitboard.mask(board, BoardSpace.SpaceType.WHITE)));
+        }
+    }
+
+    /**
+     * Plays random games in place with makeMove/makePass and checks that undoMove restores every position and hash.
+     */
+    @Test
+    public void testMakeAndUndoMove() {
+        Random rand = new Random(5941);
+        for (int gameNum = 0; gameNum < 20; gameNum++) {
+            Bitboard start = new Bitboard(game.getBoard(), BoardSpace.SpaceType.BLACK, BoardSpace.SpaceType.WHITE);
+            Bitboard position = new Bitboard(start);
+            long[] players = new long[Bitboard.MAX_PLY];
+            long[] opponents = new long[Bitboard.MAX_PLY];
+            while (!Bitboard.isGameOver(position.getPlayer(), position.getOpponent())) {
+                players[position.getPly()] = position.getPlayer();
+                opponents[position.getPly()] = position.getOpponent();
+                long moves = position.legalMoves();
+                if (moves == 0) {
+                    position.makePass();
+                    assertEquals(Bitboard.hash(position.getPlayer(), position.getOpponent()), position.getHash());
+                    continue;
+                }
+                int count = rand.nextInt(Long.bitCount(moves));
+                for (int i = 0; i < count; i++) {
+                    moves &= moves - 1;
+                }
+                long own = position.getPlayer();
+                long opp = position.getOpponent();
+                int square = Long.numberOfTrailingZeros(moves);
+                long flipped = position.makeMove(square);
+                assertEquals(Bitboard.flips(own, opp, square), flipped);
+                assertEquals(opp & ~flipped, position.getPlayer());
+                assertEquals(own | flipped | (1L << square), position.getOpponent());
+                // The incrementally updated hash must match a hash computed from scratch
+                assertEquals(Bitboard.hash(position.getPlayer(), position.getOpponent()), position.getHash());
+            }
+            while (position.getPly() > 0) {
+                position.undoMove();
+                assertEquals(players[position.getPly()], position.getPlayer());
+                assertEquals(opponents[position.getPly()], position.getOpponent());
+                assertEquals(Bitboard.hash(position.getPlayer(), position.getOpponent()), position.getHash());
+            }
+            assertEquals(start.getPlayer(), position.getPlayer());
+            assertEquals(start.getOpponent(), position.getOpponent());
+        }
+    }
+
+    /**
+     * Tests that the weighted evaluation matches Constants.BOARD_WEIGHTS.
+     */
+    @Test
+    public void testEvaluate() {
+        long corner = 1L << Bitboard.square(0, 0);
+        long xSquare = 1L << Bitboard.square(1, 1);
+        assertEquals(200, Bitboard.evaluate(corner, 0L));
+        assertEquals(300, Bitboard.evaluate(corner, xSquare));
+        assertEquals(-300, Bitboard.evaluate(xSquare, corner));
+    }
+}
@@ -0,0 +1,312 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+/**
+ * Unit tests for the {@link CustomStrategy} class.
+ * Verifies the correctness and performance of the AI strategy.
+ */
+public class CustomStrategyTest {
+    private Player player1a;
+    private Player player1b;
+    private Player player2;
+    BoardSpace[][] boardA;
+    BoardSpace[][] boardB;
+    private MinimaxStrategy minimaxStrategy;
+    private CustomStrategy customStrategy;
+
+    public static final int GAME_BOARD_SIZE = 8;
+
+    /**
+     * Sets up a clean game environment before each test, including
+     * players, game boards, and strategy instances.
+     */
+    @Before
+    public void setUp() {
+        player1a = new ComputerPlayer("custom");
+        player1b = new ComputerPlayer("minimax");
+        player2 = new HumanPlayer();
+
+        player1a.setColor(BoardSpace.SpaceType.BLACK);
+        player1b.setColor(BoardSpace.SpaceType.BLACK);
+        player2.setColor(BoardSpace.SpaceType.WHITE);
+
+        OthelloGame gameA = new OthelloGame(player1a, player2);
+        OthelloGame gameB = new OthelloGame(player1b, player2);
+        gameA.initBoard();
+        gameB.initBoard();
+        boardA = gameA.getBoard();
+        boardB = gameA.getBoard();
+        minimaxStrategy = new MinimaxStrategy();
+        customStrategy = new CustomStrategy();
+
+        // Set up initial board state
+        boardA[3][3].setType(BoardSpace.SpaceType.WHITE);
+        boardA[3][4].setType(BoardSpace.SpaceType.BLACK);
+        boardA[4][3].setType(BoardSpace.SpaceType.BLACK);
+        boardA[4][4].setType(BoardSpace.SpaceType.WHITE);
+
+        boardB[3][3].setType(BoardSpace.SpaceType.WHITE);
+        boardB[3][4].setType(BoardSpace.SpaceType.BLACK);
+        boardB[4][3].setType(BoardSpace.SpaceType.BLACK);
+        boardB[4][4].setType(BoardSpace.SpaceType.WHITE);
+    }
+
+    /**
+     * Verifies that both strategies return valid moves in the initial state.
+     */
+    @Test
+    public void testSelectMoveInitialState() {
+        // Test initial board state
+        BoardSpace moveA = customStrategy.selectMove(boardA, player1a, player2);
+        BoardSpace moveB = minimaxStrategy.selectMove(boardB, player1b, player2);
+        assertNotNull("Move should not be null", moveA);
+        assertEquals(player1a.getAvailableMoves(boardA).containsKey(moveA),
+                player1b.getAvailableMoves(boardB).containsKey(moveB));
+    }
+    /**
+     * Verifies that the custom strategy evaluates fewer nodes than minimax,
+     * indicating better pruning or shallower search.
+     */
+    @Test
+    public void testNodesEvaluated() {
+        BoardSpace moveA = customStrategy.selectMove(boardA, player1a, player2);
+        BoardSpace moveB = minimaxStrategy.selectMove(boardB, player1b, player2);
+        System.out.println(customStrategy.getNodesEvaluated());
+        System.out.println(minimaxStrategy.getNodesEvaluated());
+        assertTrue(customStrategy.getNodesEvaluated() < minimaxStrategy.getNodesEvaluated());
+    }
+    /**
+     * Tests that the move selected by the custom strategy is a valid available move.
+     */
+    @Test
+    public void testSelectMove() {//test the selected move is within the available movs
+        //1. set upp a new board
+        BoardSpace[][] board = new BoardSpace[GAME_BOARD_SIZE][GAME_BOARD_SIZE];
+        for (int i = 0; i < GAME_BOARD_SIZE; i++) {
+            for (int j = 0; j < GAME_BOARD_SIZE; j++) {
+                board[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+
+        //3.set up the initial layout for the board
+        board[3][3] = new BoardSpace(2, 3, BoardSpace.SpaceType.BLACK);
+        board[4][3] = new BoardSpace(3, 3, BoardSpace.SpaceType.BLACK);
+        board[4][4] = new BoardSpace(3, 4, BoardSpace.SpaceType.BLACK);
+        board[5][2] = new BoardSpace(4, 2, BoardSpace.SpaceType.WHITE);
+        board[5][3] = new BoardSpace(4, 3, BoardSpace.SpaceType.WHITE);
+        board[5][4] = new BoardSpace(4, 4, BoardSpace.SpaceType.WHITE);
+
+
+        // TEST the selected move is within the available moves
+        Map<BoardSpace, List<BoardSpace>> availableMoves = player1a.getAvailableMoves(board);
+        BoardSpace move = customStrategy.selectMove(board, player1a, player2);
+//        System.out.println("available moves: " + availableMoves.keySet());
+//        System.out.println("selected move: " + move);
+        assertTrue(availableMoves.containsKey(move));
+
+    }
+    /**
+     * Tests that the custom strategy correctly identifies the best move in a corner-capturing scenario.
+     */
+    @Test
+    public void testCornerSituation() {
+        //1. set upp a new board
+        BoardSpace[][] board = new BoardSpace[GAME_BOARD_SIZE][GAME_BOARD_SIZE];
+        for (int i = 0; i < GAME_BOARD_SIZE; i++) {
+            for (int j = 0; j < GAME_BOARD_SIZE; j++) {
+                board[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+        board[1][0].setType(BoardSpace.SpaceType.WHITE);
+        board[0][1].setType(BoardSpace.SpaceType.WHITE);
+        board[1][1].setType(BoardSpace.SpaceType.WHITE);
+        board[2][0].setType(BoardSpace.SpaceType.BLACK); // anchor for (1,0)
+        board[0][2].setType(BoardSpace.SpaceType.BLACK); // anchor for (0,1)
+        board[2][2].setType(BoardSpace.SpaceType.BLACK); // anchor for (1,1)
+//        System.out.println("Available moves: " + player1a.getAvailableMoves(board));
+        BoardSpace move = customStrategy.selectMove(board, player1a, player2);
+
+        assertEquals(0, move.getX());
+        assertEquals(0, move.getY());
+    }
+
+    /**
+     * Tests that with a time budget the search deepens past MAX_DEPTH, stops close to the budget,
+     * and still returns a legal move.
+     */
+    @Test
+    public void testTimeBudget() {
+        customStrategy.setTimeBudgetMillis(100);
+        long start = System.currentTimeMillis();
+        BoardSpace move = customStrategy.selectMove(boardA, player1a, player2);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(player1a.getAvailableMoves(boardA).containsKey(move));
+        assertTrue("Should deepen past the fixed depth", customStrategy.getCompletedDepth() > 2);
+        assertTrue("Took " + elapsed + " ms for a 100 ms budget", elapsed < 1000);
+    }
+
+    /**
+     * Tests that the custom minimax implementation returns the expected score
+     * when only one legal move is available.
+     */
+    @Test
+    public void testMinimax() {
+        //1. set upp a new board
+        BoardSpace[][] board = new BoardSpace[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                board[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+
+        //2.only allow one legal move
+        board[0][0].setType(BoardSpace.SpaceType.BLACK);
+        board[0][1].setType(BoardSpace.SpaceType.WHITE);
+
+        //4.call minimax with depth of 1 and black's turn
+        int score = customStrategy.minmaximizer(board, player1a, player2, 1, true, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertEquals(160, score);
+    }
+
+    /**
+     * Tests that a board that is not 8x8 is searched without bitboards instead of failing.
+     */
+    @Test
+    public void testSelectMoveSmallBoard() {
+        BoardSpace[][] board = new BoardSpace[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                board[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+        board[0][0].setType(BoardSpace.SpaceType.BLACK);
+        board[0][1].setType(BoardSpace.SpaceType.WHITE);
+
+        // The only legal move for black
+        assertSame(board[0][2], customStrategy.selectMove(board, player1a, player2));
+        assertNull(customStrategy.selectMove(board, player2, player1a));
+    }
+
+    /**
+     * Tests that principal variation search finds the same root score as plain alpha-beta,
+     * from the opening and from a position after 20 random moves.
+     */
+    @Test
+    public void testPvsMatchesAlphaBeta() {
+        OthelloGame game = new OthelloGame(player1a, player2);
+        Random rand = new Random(5940);
+        Player current = player1a;
+        Player other = player2;
+        for (int i = 0; i < 20; i++) {
+            Map<BoardSpace, List<BoardSpace>> moves = current.getAvailableMoves(game.getBoard());
+            if (!moves.isEmpty()) {
+                BoardSpace[] destinations = moves.keySet().toArray(new BoardSpace[0]);
+                game.takeSpaces(current, other, moves, destinations[rand.nextInt(destinations.length)]);
+            }
+            Player temp = current;
+            current = other;
+            other = temp;
+        }
+
+        for (BoardSpace[][] board : new BoardSpace[][][] {boardA, game.getBoard()}) {
+            for (int depth = 1; depth <= 5; depth++) {
+                CustomStrategy alphaBeta = new CustomStrategy();
+                CustomStrategy pvs = new CustomStrategy();
+                alphaBeta.setMaxDepth(depth);
+                pvs.setMaxDepth(depth);
+                pvs.setSearchAlgorithm(CustomStrategy.SearchAlgorithm.PVS);
+                alphaBeta.selectMove(board, current, other);
+                BoardSpace move = pvs.selectMove(board, current, other);
+                assertEquals(alphaBeta.getRootScore(), pvs.getRootScore());
+                assertTrue(current.getAvailableMoves(board).containsKey(move));
+            }
+        }
+    }
+
+    /**
+     * Tests that the lazy SMP search with helper threads completes the depth, plays a legal move,
+     * and counts the helpers' nodes in the total.
+     */
+    @Test
+    public void testHelperThreads() {
+        CustomStrategy strategy = new CustomStrategy();
+        strategy.setThreads(4);
+        strategy.setMaxDepth(5);
+        for (int i = 0; i < 3; i++) {
+            BoardSpace move = strategy.selectMove(boardA, player1a, player2);
+            assertTrue(player1a.getAvailableMoves(boardA).containsKey(move));
+            assertEquals(5, strategy.getCompletedDepth());
+            assertTrue(strategy.getTotalNodesEvaluated() >= strategy.getNodesEvaluated());
+        }
+
+        strategy.setTimeBudgetMillis(100);
+        long start = System.currentTimeMillis();
+        BoardSpace move = strategy.selectMove(boardA, player1a, player2);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(player1a.getAvailableMoves(boardA).containsKey(move));
+        assertThrows(IllegalArgumentException.class, () -> strategy.setThreads(0));
+    }
+
+    /**
+     * Tests that a search without a depth limit stops soon after another thread calls stop,
+     * still plays a legal move, and reports every completed depth to the listener.
+     */
+    @Test
+    public void testStopFromAnotherThread() throws InterruptedException {
+        CustomStrategy strategy = new CustomStrategy();
+        strategy.setTimeBudgetMillis(60_000);
+        List<Integer> depths = new CopyOnWriteArrayList<>();
+        strategy.setSearchListener((depth, bestSquare, nodes) -> depths.add(depth));
+        BoardSpace[] move = new BoardSpace[1];
+        Thread search = new Thread(() -> move[0] = strategy.selectMove(boardA, player1a, player2));
+        search.start();
+        Thread.sleep(200);
+        long start = System.currentTimeMillis();
+        strategy.stop();
+        search.join(5000);
+        assertFalse(search.isAlive());
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(player1a.getAvailableMoves(boardA).containsKey(move[0]));
+        assertEquals(strategy.getCompletedDepth() + 1, depths.size());
+        for (int i = 0; i < depths.size(); i++) {
+            assertEquals(i, (int) depths.get(i));
+        }
+
+        // The stop does not carry over to the next search
+        strategy.setTimeBudgetMillis(0);
+        strategy.setMaxDepth(3);
+        strategy.selectMove(boardA, player1a, player2);
+        assertEquals(3, strategy.getCompletedDepth());
+    }
+
+    /**
+     * Tests that a stop condition which already holds when the search starts still stops it,
+     * where a stop() sent at that moment would be cleared by the search.
+     */
+    @Test
+    public void testStopConditionBeforeStart() {
+        CustomStrategy strategy = new CustomStrategy();
+        strategy.setTimeBudgetMillis(60_000);
+        strategy.stop();  // lost: the search clears it when it starts
+        strategy.setStopCondition(() -> true);
+        long start = System.currentTimeMillis();
+        BoardSpace move = strategy.selectMove(boardA, player1a, player2);
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertTrue(player1a.getAvailableMoves(boardA).containsKey(move));
+
+        // Without the condition the next search runs to its depth
+        strategy.setStopCondition(null);
+        strategy.setTimeBudgetMillis(0);
+        strategy.setMaxDepth(3);
+        strategy.selectMove(boardA, player1a, player2);
+        assertEquals(3, strategy.getCompletedDepth());
+    }
+}
@@ -0,0 +1,154 @@
+package othello.gamelogic;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link EndgameSolver} class.
+ * Solutions are checked against a plain minimax over every line, on late positions of random games.
+ */
+public class EndgameSolverTest {
+
+    /**
+     * Plays random moves from the starting position until the given number of squares is empty.
+     *
+     * @param engine  the random number source
+     * @param empties the number of empty squares to stop at
+     * @return the player and opponent discs, or null if the game ended first
+     */
+    private long[] randomPosition(RandomPlayout engine, int empties) {
+        long player = (1L << Bitboard.square(3, 4)) | (1L << Bitboard.square(4, 3));
+        long opponent = (1L << Bitboard.square(3, 3)) | (1L << Bitboard.square(4, 4));
+        while (Long.bitCount(~(player | opponent)) > empties) {
+            long moves = Bitboard.legalMoves(player, opponent);
+            if (moves == 0) {
+                if (Bitboard.legalMoves(opponent, player) == 0) {
+                    return null;
+                }
+            } else {
+                int square = Long.numberOfTrailingZeros(Long.expand(1L << engine.nextInt(Long.bitCount(moves)), moves));
+                long flipped = Bitboard.flips(player, opponent, square);
+                player |= flipped | (1L << square);
+                opponent &= ~flipped;
+            }
+            long temp = player;
+            player = opponent;
+            opponent = temp;
+        }
+        return new long[] {player, opponent};
+    }
+
+    /**
+     * Computes the final disc difference with best play by searching every line, without any pruning.
+     *
+     * @param player   the discs of the player to move
+     * @param opponent the discs of the opponent
+     * @return the final disc difference for the player to move
+     */
+    private int minimax(long player, long opponent) {
+        long moves = Bitboard.legalMoves(player, opponent);
+        if (moves == 0) {
+            if (Bitboard.legalMoves(opponent, player) == 0) {
+                return Long.bitCount(player) - Long.bitCount(opponent);
+            }
+            return -minimax(opponent, player);
+        }
+        int best = Integer.MIN_VALUE;
+        for (; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flipped = Bitboard.flips(player, opponent, square);
+            best = Math.max(best, -minimax(opponent & ~flipped, player | flipped | (1L << square)));
+        }
+        return best;
+    }
+
+    /**
+     * Tests the exact and win/loss/draw results and the best move against plain minimax.
+     */
+    @Test
+    public void testMatchesMinimax() {
+        RandomPlayout engine = new RandomPlayout(5940);
+        EndgameSolver solver = new EndgameSolver();
+        int solved = 0;
+        while (solved < 30) {
+            long[] position = randomPosition(engine, 9);
+            if (position == null) {
+                continue;
+            }
+            solved++;
+            int expected = minimax(position[0], position[1]);
+
+            solver.setMode(EndgameSolver.Mode.EXACT);
+            assertEquals(expected, solver.solve(position[0], position[1]));
+            assertTrue(solver.getNodes() > 0);
+            int move = solver.getBestMove();
+            if (move != Bitboard.PASS) {
+                long flipped = Bitboard.flips(position[0], position[1], move);
+                assertNotEquals(0L, flipped);
+                assertEquals(expected, -minimax(position[1] & ~flipped, position[0] | flipped | (1L << move)));
+            }
+
+            solver.setMode(EndgameSolver.Mode.WIN_LOSS_DRAW);
+            assertEquals(Integer.signum(expected), solver.solve(position[0], position[1]));
+        }
+    }
+
+    /**
+     * Tests that stable discs are found in the corners and never flip during random games.
+     */
+    @Test
+    public void testStableDiscs() {
+        long corner = 1L << Bitboard.square(0, 0);
+        long edge = 1L << Bitboard.square(0, 1);
+        assertEquals(corner | edge, EndgameSolver.stableDiscs(corner | edge, 1L << Bitboard.square(1, 1)));
+        assertEquals(0L, EndgameSolver.stableDiscs(edge, 0L));
+
+        RandomPlayout engine = new RandomPlayout(5941);
+        for (int i = 0; i < 200; i++) {
+            long[] position = randomPosition(engine, 12);
+            if (position == null) {
+                continue;
+            }
+            long stablePlayer = EndgameSolver.stableDiscs(position[0], position[1]);
+            long stableOpponent = EndgameSolver.stableDiscs(position[1], position[0]);
+            for (int game = 0; game < 10; game++) {
+                engine.play(position[0], position[1]);
+                assertEquals(stablePlayer, engine.getPlayer() & stablePlayer);
+                assertEquals(stableOpponent, engine.getOpponent() & stableOpponent);
+            }
+        }
+    }
+
+    /**
+     * Tests that CustomStrategy hands positions with few empty squares to the solver and plays its move.
+     */
+    @Test
+    public void testCustomStrategyUsesSolver() {
+        long[] position = null;
+        RandomPlayout engine = new RandomPlayout(5942);
+        while (position == null || Bitboard.legalMoves(position[0], position[1]) == 0) {
+            position = randomPosition(engine, 10);
+        }
+        BoardSpace[][] board = new BoardSpace[8][8];
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                long bit = 1L << Bitboard.square(x, y);
+                BoardSpace.SpaceType type = (position[0] & bit) != 0 ? BoardSpace.SpaceType.BLACK
+                        : (position[1] & bit) != 0 ? BoardSpace.SpaceType.WHITE : BoardSpace.SpaceType.EMPTY;
+                board[x][y] = new BoardSpace(x, y, type);
+            }
+        }
+        Player black = new HumanPlayer();
+        Player white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+
+        CustomStrategy strategy = new CustomStrategy();
+        BoardSpace move = strategy.selectMove(board, black, white);
+        assertEquals(10, strategy.getCompletedDepth());
+        int square = Bitboard.square(move.getX(), move.getY());
+        long flipped = Bitboard.flips(position[0], position[1], square);
+        assertEquals(minimax(position[0], position[1]),
+                -minimax(position[1] & ~flipped, position[0] | flipped | (1L << square)));
+    }
+}
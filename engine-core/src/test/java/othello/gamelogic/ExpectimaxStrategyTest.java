@@ -0,0 +1,99 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link ExpectimaxStrategy} class.
+ * The pruned search is checked against the same search with pruning turned off.
+ */
+public class ExpectimaxStrategyTest {
+    private ComputerPlayer player1;
+    private HumanPlayer player2;
+    private BoardSpace[][] board;
+
+    /**
+     * Creates an expectimax player and the starting position before each test.
+     */
+    @Before
+    public void setUp() {
+        player1 = new ComputerPlayer("expectimax");
+        player2 = new HumanPlayer();
+        player1.setColor(BoardSpace.SpaceType.BLACK);
+        player2.setColor(BoardSpace.SpaceType.WHITE);
+        OthelloGame game = new OthelloGame(player1, player2);
+        board = game.getBoard();
+    }
+
+    /**
+     * Tests that the expectimax player picks a legal move, and none when it has no move.
+     */
+    @Test
+    public void testSelectMove() {
+        BoardSpace move = player1.chooseMove(board, player1, player2);
+        assertNotNull(move);
+        assertTrue(player1.getAvailableMoves(board).containsKey(move));
+
+        for (BoardSpace[] row : board) {
+            for (BoardSpace space : row) {
+                if (space.getType() == BoardSpace.SpaceType.EMPTY) {
+                    space.setType(BoardSpace.SpaceType.WHITE);
+                }
+            }
+        }
+        assertNull(player1.chooseMove(board, player1, player2));
+    }
+
+    /**
+     * Tests that Star1 and Star2 pruning give the same root value and move as the full expectimax search,
+     * while searching fewer nodes.
+     */
+    @Test
+    public void testPruningMatchesFullSearch() {
+        RandomPlayout engine = new RandomPlayout(5940);
+        long prunedNodes = 0;
+        long fullNodes = 0;
+        for (int empties : new int[] {56, 44, 30, 16}) {
+            long[] position = null;
+            while (position == null || Bitboard.legalMoves(position[0], position[1]) == 0) {
+                position = SearchScaling.randomPosition(engine, empties);
+            }
+            for (double temperature : new double[] {5, 25, 200}) {
+                for (int depth = 0; depth <= 3; depth++) {
+                    ExpectimaxStrategy pruned = new ExpectimaxStrategy();
+                    ExpectimaxStrategy full = new ExpectimaxStrategy();
+                    for (ExpectimaxStrategy strategy : new ExpectimaxStrategy[] {pruned, full}) {
+                        strategy.setMaxDepth(depth);
+                        strategy.setTemperature(temperature);
+                    }
+                    full.setPruning(false);
+                    int prunedMove = pruned.bestMove(position[0], position[1]);
+                    int fullMove = full.bestMove(position[0], position[1]);
+                    assertEquals(full.getRootValue(), pruned.getRootValue(), 1e-6);
+                    assertEquals(fullMove, prunedMove);
+                    assertEquals(depth, pruned.getCompletedDepth());
+                    prunedNodes += pruned.getNodesEvaluated();
+                    fullNodes += full.getNodesEvaluated();
+                }
+            }
+        }
+        assertTrue(prunedNodes < fullNodes);
+    }
+
+    /**
+     * Tests that the search deepens within the time budget and returns a legal move.
+     */
+    @Test
+    public void testTimeBudget() {
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy();
+        strategy.setTimeBudgetMillis(100);
+        long start = System.currentTimeMillis();
+        BoardSpace move = strategy.selectMove(board, player1, player2);
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("Search took " + elapsed + " ms", elapsed < 1000);
+        assertTrue(player1.getAvailableMoves(board).containsKey(move));
+        assertTrue(strategy.getCompletedDepth() >= 2);
+        assertThrows(IllegalArgumentException.class, () -> strategy.setTemperature(0));
+    }
+}
@@ -307,4 +307,136 @@ public class MCTSStrategyTest {
         assertEquals(generation5.getVisits(), 1);
         assertEquals(generation5.getWins(), 1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Plays a full game between two MCTS strategies, which reuse their trees across turns,
+     * and checks that every chosen move is legal in the actual position, and that the second search
+     * of each strategy starts from the visited subtree of its first.
+     */
+    @Test
+    public void testSelfPlayWithTreeReuse() {
+        HumanPlayer black = new HumanPlayer();
+        HumanPlayer white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+        OthelloGame game = new OthelloGame(black, white);
+        MCTSStrategy blackStrategy = new MCTSStrategy();
+        MCTSStrategy whiteStrategy = new MCTSStrategy();
+        blackStrategy.setMaxIterations(1000);
+        whiteStrategy.setMaxIterations(1000);
+
+        Player current = black;
+        Player other = white;
+        int passes = 0;
+        int turn = 0;
+        while (passes < 2) {
+            MCTSStrategy strategy = current == black ? blackStrategy : whiteStrategy;
+            Map<BoardSpace, List<BoardSpace>> availableMoves = game.getAvailableMoves(current);
+            BoardSpace move = strategy.selectMove(game.getBoard(), current, other);
+            if (turn < 2) {
+                assertEquals(0, strategy.getReusedVisits());
+            } else if (turn < 4) {
+                assertTrue("The tree of the first move was not reused", strategy.getReusedVisits() > 0);
+            }
+            turn++;
+            if (availableMoves.isEmpty()) {
+                assertNull(move);
+                passes++;
+            } else {
+                assertTrue(availableMoves.containsKey(move));
+                game.takeSpaces(current, other, availableMoves, move);
+                passes = 0;
+            }
+            Player temp = current;
+            current = other;
+            other = temp;
+        }
+    }
+
+    /**
+     * Tests that the root-parallel and tree-parallel modes choose a legal move on several threads.
+     */
+    @Test
+    public void testParallelModes() {
+        Map<BoardSpace, List<BoardSpace>> availableMoves = playerBlack.getAvailableMoves(board);
+        for (MCTSStrategy.Parallelism mode : MCTSStrategy.Parallelism.values()) {
+            MCTSStrategy strategy = new MCTSStrategy();
+            strategy.setParallelism(mode);
+            strategy.setThreads(4);
+            BoardSpace move = strategy.selectMove(board, playerBlack, playerWhite);
+            assertTrue(mode + " chose an illegal move", availableMoves.containsKey(move));
+        }
+    }
+
+    /**
+     * Tests that a virtual loss counts a visit in advance and is replaced by the real result.
+     */
+    @Test
+    public void testVirtualLoss() {
+        MCTSNode node = new MCTSNode(board, root, null);
+        node.addVirtualLoss(false);
+        assertEquals(1, node.getVisits());
+        assertEquals(0, node.getWins());
+        node.revertVirtualLoss(false, true);
+        assertEquals(1, node.getVisits());
+        assertEquals(1, node.getWins());
+
+        node.addVirtualLoss(true);
+        assertEquals(2, node.getWins());
+        node.revertVirtualLoss(true, false);
+        assertEquals(2, node.getVisits());
+        assertEquals(1, node.getWins());
+    }
+
+    /**
+     * Tests that a time budget runs more than the default iterations and stays close to the budget.
+     */
+    @Test
+    public void testTimeBudget() {
+        mctsStrategy.setTimeBudgetMillis(100);
+        long start = System.currentTimeMillis();
+        BoardSpace move = mctsStrategy.selectMove(board, playerBlack, playerWhite);
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(playerBlack.getAvailableMoves(board).containsKey(move));
+        assertTrue("search took " + elapsed + " ms", elapsed < 1000);
+        assertTrue(mctsStrategy.getIterations() > 100);
+        assertTrue(mctsStrategy.getIterationsPerSecond() > 0);
+    }
+
+    /**
+     * Tests that the search stops early when there is only one move to choose.
+     */
+    @Test
+    public void testEarlyStopOnForcedMove() {
+        BoardSpace[][] forced = new BoardSpace[BOARD_SIZE][BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            for (int j = 0; j < BOARD_SIZE; j++) {
+                forced[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+        forced[0][0].setType(BoardSpace.SpaceType.BLACK);
+        forced[0][1].setType(BoardSpace.SpaceType.WHITE);
+
+        mctsStrategy.setMaxIterations(1_000_000);
+        BoardSpace move = mctsStrategy.selectMove(forced, playerBlack, playerWhite);
+        assertSame(forced[0][2], move);
+        assertTrue(mctsStrategy.getIterations() < 100);
+    }
+
+    /**
+     * Tests that a board that is not 8x8 is rejected with a clear error, since the search runs on bitboards.
+     */
+    @Test
+    public void testSelectMoveSmallBoard() {
+        BoardSpace[][] small = new BoardSpace[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                small[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+        small[0][0].setType(BoardSpace.SpaceType.BLACK);
+        small[0][1].setType(BoardSpace.SpaceType.WHITE);
+
+        assertThrows(IllegalArgumentException.class, () -> new MCTSStrategy().selectMove(small, playerBlack, playerWhite));
+    }
+}
@@ -3,6 +3,8 @@ import org.junit.Before;
 import org.junit.Test;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -95,4 +97,59 @@ public class MinimaxTest {
         BoardSpace move = player1.chooseMove(board, player1, player2);
         assertNull("Should return null when no moves available", move);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testForkJoinMatchesSequential() {
+        OthelloGame game = new OthelloGame(player1, player2);
+        Random rand = new Random(5940);
+        Player current = player1;
+        Player other = player2;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int ply = 0; ply < 30; ply++) {
+                Map<BoardSpace, List<BoardSpace>> moves = current.getAvailableMoves(game.getBoard());
+                if (ply % 6 == 0 && !moves.isEmpty()) {
+                    for (int depth = 0; depth <= 3; depth++) {
+                        MinimaxStrategy sequential = new MinimaxStrategy();
+                        sequential.setMaxDepth(depth);
+                        BoardSpace expected = sequential.selectMove(game.getBoard(), current, other);
+                        for (int splitDepth = 1; splitDepth <= 3; splitDepth++) {
+                            MinimaxStrategy parallel = new MinimaxStrategy();
+                            parallel.setMaxDepth(depth);
+                            parallel.setForkJoinPool(pool);
+                            parallel.setSplitDepth(splitDepth);
+                            assertSame(expected, parallel.selectMove(game.getBoard(), current, other));
+                            assertEquals(sequential.getNodesEvaluated(), parallel.getNodesEvaluated());
+                        }
+                    }
+                }
+                if (!moves.isEmpty()) {
+                    BoardSpace[] destinations = moves.keySet().toArray(new BoardSpace[0]);
+                    game.takeSpaces(current, other, moves, destinations[rand.nextInt(destinations.length)]);
+                }
+                Player temp = current;
+                current = other;
+                other = temp;
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a board that is not 8x8 is rejected with a clear error, since the search runs on bitboards.
+     */
+    @Test
+    public void testSelectMoveSmallBoard() {
+        BoardSpace[][] small = new BoardSpace[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                small[i][j] = new BoardSpace(i, j, BoardSpace.SpaceType.EMPTY);
+            }
+        }
+        small[0][0].setType(BoardSpace.SpaceType.BLACK);
+        small[0][1].setType(BoardSpace.SpaceType.WHITE);
+
+        assertThrows(IllegalArgumentException.class, () -> new MinimaxStrategy().selectMove(small, player1, player2));
+    }
+}
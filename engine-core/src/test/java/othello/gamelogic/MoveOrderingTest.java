@@ -0,0 +1,75 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link MoveOrdering} class.
+ */
+public class MoveOrderingTest {
+    private MoveOrdering ordering;
+    private long moves;
+    private int corner;
+    private int xSquare;
+    private int edge;
+    private int center;
+
+    /**
+     * Sets up a move list with squares of very different weights.
+     */
+    @Before
+    public void setUp() {
+        ordering = new MoveOrdering();
+        corner = Bitboard.square(0, 0);
+        xSquare = Bitboard.square(1, 1);
+        edge = Bitboard.square(0, 2);
+        center = Bitboard.square(3, 3);
+        moves = (1L << corner) | (1L << xSquare) | (1L << edge) | (1L << center);
+    }
+
+    /**
+     * Tests that without any history the moves are sorted by Constants.BOARD_WEIGHTS.
+     */
+    @Test
+    public void testWeightTieBreak() {
+        assertEquals(4, ordering.order(moves, TranspositionTable.NO_MOVE, 0));
+        int[] ordered = ordering.moves(0);
+        assertArrayEquals(new int[] {corner, edge, center, xSquare}, Arrays.copyOf(ordered, 4));
+    }
+
+    /**
+     * Tests that the hash move comes first, then the killers of the ply, then the history.
+     */
+    @Test
+    public void testHashMoveKillersAndHistory() {
+        ordering.recordCutoff(center, 5, 3);
+        ordering.recordCutoff(xSquare, 5, 1);
+        ordering.recordCutoff(edge, 2, 4);
+        assertEquals(16, ordering.getHistory(edge));
+
+        ordering.order(moves, corner, 5);
+        // xSquare is the newest killer of ply 5, center the older one; edge has the most history
+        assertArrayEquals(new int[] {corner, xSquare, center, edge}, Arrays.copyOf(ordering.moves(5), 4));
+
+        // At another ply only the history counts
+        ordering.order(moves, TranspositionTable.NO_MOVE, 1);
+        assertArrayEquals(new int[] {edge, center, xSquare, corner}, Arrays.copyOf(ordering.moves(1), 4));
+    }
+
+    /**
+     * Tests that a new search drops the killers and halves the history.
+     */
+    @Test
+    public void testNewSearch() {
+        ordering.recordCutoff(xSquare, 0, 4);
+        ordering.newSearch();
+        assertEquals(8, ordering.getHistory(xSquare));
+        ordering.clear();
+        assertEquals(0, ordering.getHistory(xSquare));
+        ordering.order(moves, TranspositionTable.NO_MOVE, 0);
+        assertEquals(corner, ordering.moves(0)[0]);
+    }
+}
@@ -7,7 +7,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -229,6 +231,47 @@ public class OthelloGameTest {
             fail("Move at (2,2) not found in available moves");
         }
     }
+    /**
+     * Tests that the square-based move API lists the same moves as the Map API,
+     * and that {@link OthelloGame#takeSpaces(Player, Player, int)} flips the same pieces.
+     */
+    @Test
+    public void testSquareMoveApi() {
+        OthelloGame mapGame = new OthelloGame(player1, player2);
+        OthelloGame squareGame = new OthelloGame(player1, player2);
+        int[] moves = new int[64];
+        Player current = player1;
+        Player other = player2;
+        for (int turn = 0; turn < 20; turn++) {
+            Map<BoardSpace, List<BoardSpace>> availableMoves = mapGame.getAvailableMoves(current);
+            int count = squareGame.getAvailableMoves(current, moves);
+            assertEquals(availableMoves.size(), count);
+            if (count == 0) {
+                break;
+            }
+            // Play the lowest square in both games
+            int square = moves[0];
+            BoardSpace destination = mapGame.getBoard()[square / GAME_BOARD_SIZE][square % GAME_BOARD_SIZE];
+            assertTrue(availableMoves.containsKey(destination));
+            mapGame.takeSpaces(current, other, availableMoves, destination);
+            long flipped = squareGame.takeSpaces(current, other, square);
+            assertNotEquals(0L, flipped);
+
+            for (int i = 0; i < GAME_BOARD_SIZE; i++) {
+                for (int j = 0; j < GAME_BOARD_SIZE; j++) {
+                    assertEquals(mapGame.getBoard()[i][j].getType(), squareGame.getBoard()[i][j].getType());
+                }
+            }
+            assertEquals(other, squareGame.getCurrentPlayer());
+            Player temp = current;
+            current = other;
+            other = temp;
+        }
+
+        // An occupied square is not a valid move and changes nothing
+        assertEquals(0L, squareGame.takeSpaces(current, other, Bitboard.square(3, 3)));
+    }
+
     /**
      * Tests the correctness of {@link OthelloGame#getAvailableMoves(Player)} on multiple board states.
      */
@@ -339,5 +382,54 @@ public class OthelloGameTest {
         }
         assertEquals(32, blackCount);
         assertEquals(32, whiteCount);
+        assertEquals(32, game.getDiscCount(BoardSpace.SpaceType.BLACK));
+        assertEquals(32, game.getDiscCount(BoardSpace.SpaceType.WHITE));
+        assertTrue(game.isBoardFull());
+    }
+
+    /**
+     * Tests that the discs and move masks kept by {@link OthelloGame#takeSpace(Player, Player, int, int)}
+     * match the board after every move of a game, whichever takeSpaces is used.
+     */
+    @Test
+    public void testIncrementalDiscCounts() {
+        OthelloGame game = new OthelloGame(player1, player2);
+        assertEquals(2, game.getDiscCount(BoardSpace.SpaceType.BLACK));
+        assertEquals(2, game.getDiscCount(BoardSpace.SpaceType.WHITE));
+        assertEquals(2, game.getDiscCount(player1.getColor()));
+
+        Random random = new Random(7);
+        int[] moves = new int[64];
+        Player current = player1;
+        Player other = player2;
+        for (int turn = 0; turn < 60; turn++) {
+            int count = game.getAvailableMoves(current, moves);
+            if (count > 0) {
+                int square = moves[random.nextInt(count)];
+                if (turn % 2 == 0) {
+                    game.takeSpaces(current, other, square);
+                } else {
+                    Map<BoardSpace, List<BoardSpace>> availableMoves = game.getAvailableMoves(current);
+                    game.takeSpaces(current, other, availableMoves,
+                            game.getBoard()[Bitboard.row(square)][Bitboard.col(square)]);
+                }
+            }
+            long black = Bitboard.mask(game.getBoard(), BoardSpace.SpaceType.BLACK);
+            long white = Bitboard.mask(game.getBoard(), BoardSpace.SpaceType.WHITE);
+            assertEquals(black, game.getDiscs(BoardSpace.SpaceType.BLACK));
+            assertEquals(white, game.getDiscs(BoardSpace.SpaceType.WHITE));
+            assertEquals(Long.bitCount(black), game.getDiscCount(BoardSpace.SpaceType.BLACK));
+            assertEquals(current.getMoveMask(game.getBoard()), game.getMoveMask(current));
+            assertEquals(other.getMoveMask(game.getBoard()), game.getMoveMask(other));
+            assertEquals((black | white) == -1L, game.isBoardFull());
+            Player temp = current;
+            current = other;
+            other = temp;
+        }
+
+        // The same players in a new game start from that game's own discs
+        OthelloGame fresh = new OthelloGame(player1, player2);
+        assertEquals(2, fresh.getDiscCount(player1.getColor()));
+        assertEquals(4, Long.bitCount(fresh.getMoveMask(player1)));
     }
 }
\ No newline at end of file
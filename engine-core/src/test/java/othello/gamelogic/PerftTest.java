@@ -0,0 +1,141 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link Perft} class.
+ * The bitboard counts are checked against the reference counts and against a perft built on
+ * {@link Player#getAvailableMoves(BoardSpace[][])} and {@link OthelloGame#takeSpaces(Player, Player, Map, BoardSpace)}.
+ */
+public class PerftTest {
+    private Player black;
+    private Player white;
+    private OthelloGame game;
+
+    /**
+     * Creates a fresh game with the standard starting position before each test.
+     */
+    @Before
+    public void setUp() {
+        black = new HumanPlayer();
+        white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+        game = new OthelloGame(black, white);
+    }
+
+    /**
+     * Tests the counts from the starting position against the reference counts.
+     */
+    @Test
+    public void testReferenceCounts() {
+        Bitboard start = Perft.startPosition();
+        for (int depth = 0; depth <= 8; depth++) {
+            assertEquals(Perft.REFERENCE_COUNTS[depth], Perft.perft(start.getPlayer(), start.getOpponent(), depth));
+        }
+    }
+
+    /**
+     * Tests that the fork-join perft counts the same nodes as the single-threaded one.
+     */
+    @Test
+    public void testParallelMatchesSequential() {
+        Bitboard start = Perft.startPosition();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(Perft.REFERENCE_COUNTS[8], Perft.perft(start.getPlayer(), start.getOpponent(), 8, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests the bitboard perft against the array-based move generator, from the start
+     * and from late positions of random games, where passes and finished games occur.
+     */
+    @Test
+    public void testMatchesArrayImplementation() {
+        assertEquals(arrayPerft(game.getBoard(), black, white, 5),
+                Perft.perft(Perft.startPosition().getPlayer(), Perft.startPosition().getOpponent(), 5));
+
+        Random rand = new Random(5940);
+        for (int gameNum = 0; gameNum < 5; gameNum++) {
+            game.initBoard();
+            Player current = black;
+            Player other = white;
+            // Play randomly until 9 squares are left
+            while (Bitboard.NUM_SQUARES - Long.bitCount(Bitboard.mask(game.getBoard(), current.getColor())
+                    | Bitboard.mask(game.getBoard(), other.getColor())) > 9) {
+                Map<BoardSpace, List<BoardSpace>> moves = current.getAvailableMoves(game.getBoard());
+                if (moves.isEmpty() && other.getAvailableMoves(game.getBoard()).isEmpty()) {
+                    break;
+                }
+                if (!moves.isEmpty()) {
+                    BoardSpace[] destinations = moves.keySet().toArray(new BoardSpace[0]);
+                    game.takeSpaces(current, other, moves, destinations[rand.nextInt(destinations.length)]);
+                }
+                Player temp = current;
+                current = other;
+                other = temp;
+            }
+            BoardSpace[][] board = game.getBoard();
+            long own = Bitboard.mask(board, current.getColor());
+            long opp = Bitboard.mask(board, other.getColor());
+            assertEquals(arrayPerft(board, current, other, 6), Perft.perft(own, opp, 6));
+        }
+    }
+
+    /**
+     * Counts leaf nodes with the array-based move generator, following the same pass rules as {@link Perft}.
+     *
+     * @param board    the position
+     * @param player   the player to move
+     * @param opponent the other player
+     * @param depth    the number of plies to play
+     * @return the number of leaf nodes
+     */
+    private long arrayPerft(BoardSpace[][] board, Player player, Player opponent, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        Map<BoardSpace, List<BoardSpace>> moves = player.getAvailableMoves(board);
+        if (moves.isEmpty()) {
+            if (opponent.getAvailableMoves(board).isEmpty()) {
+                return 1;
+            }
+            return arrayPerft(board, opponent, player, depth - 1);
+        }
+        long nodes = 0;
+        for (BoardSpace move : moves.keySet()) {
+            BoardSpace[][] copy = copyBoard(board);
+            OthelloGame child = new OthelloGame(player, opponent);
+            child.setBoard(copy);
+            child.takeSpaces(player, opponent, player.getAvailableMoves(copy), copy[move.getX()][move.getY()]);
+            nodes += arrayPerft(copy, opponent, player, depth - 1);
+        }
+        return nodes;
+    }
+
+    /**
+     * Creates a deep copy of a board.
+     *
+     * @param board the board to copy
+     * @return the copy
+     */
+    private BoardSpace[][] copyBoard(BoardSpace[][] board) {
+        BoardSpace[][] copy = new BoardSpace[board.length][board.length];
+        for (int i = 0; i < board.length; i++) {
+            for (int j = 0; j < board.length; j++) {
+                copy[i][j] = new BoardSpace(board[i][j]);
+            }
+        }
+        return copy;
+    }
+}
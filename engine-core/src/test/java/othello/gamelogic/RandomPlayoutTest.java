@@ -0,0 +1,67 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link RandomPlayout} class.
+ */
+public class RandomPlayoutTest {
+    private long black;
+    private long white;
+
+    /**
+     * Sets up the starting position with black to move.
+     */
+    @Before
+    public void setUp() {
+        black = (1L << Bitboard.square(3, 4)) | (1L << Bitboard.square(4, 3));
+        white = (1L << Bitboard.square(3, 3)) | (1L << Bitboard.square(4, 4));
+    }
+
+    /**
+     * Tests that every playout ends in a finished game that keeps the starting discs occupied.
+     */
+    @Test
+    public void testPlayoutReachesGameOver() {
+        RandomPlayout engine = new RandomPlayout(5940);
+        for (int i = 0; i < 1000; i++) {
+            int result = engine.play(black, white);
+            long player = engine.getPlayer();
+            long opponent = engine.getOpponent();
+            assertEquals(0L, player & opponent);
+            assertEquals(black | white, (black | white) & (player | opponent));
+            assertTrue(Bitboard.isGameOver(player, opponent));
+            assertEquals(Long.bitCount(player) - Long.bitCount(opponent), result);
+        }
+    }
+
+    /**
+     * Tests that the same seed plays the same games.
+     */
+    @Test
+    public void testSameSeedSameGames() {
+        RandomPlayout first = new RandomPlayout(42);
+        RandomPlayout second = new RandomPlayout(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.play(black, white), second.play(black, white));
+            assertEquals(first.getPlayer(), second.getPlayer());
+        }
+    }
+
+    /**
+     * Tests that nextInt stays in range and hits every value.
+     */
+    @Test
+    public void testNextIntRange() {
+        RandomPlayout engine = new RandomPlayout(7);
+        int[] counts = new int[13];
+        for (int i = 0; i < 13_000; i++) {
+            counts[engine.nextInt(13)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package othello.gamelogic;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link TranspositionTable} class.
+ */
+public class TranspositionTableTest {
+    private TranspositionTable table;
+
+    /**
+     * Creates a small table before each test.
+     */
+    @Before
+    public void setUp() {
+        table = new TranspositionTable(1);
+    }
+
+    /**
+     * Tests that the number of entries is the largest power of two that fits in the requested size.
+     */
+    @Test
+    public void testCapacity() {
+        assertEquals(1 << 16, table.capacity());
+        assertEquals(1 << 18, new TranspositionTable(4).capacity());
+        assertEquals(1 << 18, new TranspositionTable(5).capacity());
+    }
+
+    /**
+     * Tests that very large sizes are clamped to a table whose long[] and slot indices still fit in an int.
+     */
+    @Test
+    public void testLargeSizeIsClamped() {
+        assertEquals(1L << 16, TranspositionTable.entries(1));
+        assertEquals(1L << 29, TranspositionTable.entries(8192));
+        assertEquals(1L << 29, TranspositionTable.entries(16384));
+        assertEquals(1L << 29, TranspositionTable.entries(Integer.MAX_VALUE));
+        assertTrue(TranspositionTable.entries(Integer.MAX_VALUE) * 2 <= Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tests that every field of a stored entry is read back unchanged, including negative scores.
+     */
+    @Test
+    public void testStoreAndProbe() {
+        long key = 0x123456789ABCDEF0L;
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(key));
+
+        table.store(key, 7, TranspositionTable.LOWER_BOUND, -1234, 63);
+        long entry = table.probe(key);
+        assertNotEquals(TranspositionTable.NO_ENTRY, entry);
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+        assertEquals(-1234, TranspositionTable.score(entry));
+        assertEquals(63, TranspositionTable.move(entry));
+
+        table.store(key, 8, TranspositionTable.EXACT, 0, TranspositionTable.NO_MOVE);
+        entry = table.probe(key);
+        assertEquals(TranspositionTable.EXACT, TranspositionTable.bound(entry));
+        assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.move(entry));
+    }
+
+    /**
+     * Tests that a different key mapping to the same slot is reported as a miss.
+     */
+    @Test
+    public void testCollisionIsMiss() {
+        long key = 42L;
+        long sameSlot = key + ((long) table.capacity() << 3);
+        table.store(key, 3, TranspositionTable.EXACT, 10, 0);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(sameSlot));
+    }
+
+    /**
+     * Tests that a shallower search does not overwrite a deeper entry of the same position.
+     */
+    @Test
+    public void testDeeperEntryIsKept() {
+        long key = 99L;
+        table.store(key, 6, TranspositionTable.EXACT, 50, 10);
+        table.store(key, 2, TranspositionTable.EXACT, -50, 11);
+        long entry = table.probe(key);
+        assertEquals(6, TranspositionTable.depth(entry));
+        assertEquals(50, TranspositionTable.score(entry));
+    }
+
+    /**
+     * Tests that sharing a table with MinimaxStrategy does not change the move it selects.
+     */
+    @Test
+    public void testMinimaxWithTableSelectsSameMove() {
+        Player black = new HumanPlayer();
+        Player white = new HumanPlayer();
+        black.setColor(BoardSpace.SpaceType.BLACK);
+        white.setColor(BoardSpace.SpaceType.WHITE);
+        OthelloGame game = new OthelloGame(black, white);
+
+        MinimaxStrategy plain = new MinimaxStrategy();
+        MinimaxStrategy cached = new MinimaxStrategy();
+        cached.setTranspositionTable(table);
+        Player current = black;
+        for (int ply = 0; ply < 12; ply++) {
+            Player other = current == black ? white : black;
+            BoardSpace expected = plain.selectMove(game.getBoard(), current, other);
+            BoardSpace actual = cached.selectMove(game.getBoard(), current, other);
+            assertSame(expected, actual);
+            if (expected != null) {
+                game.takeSpaces(current, other, game.getAvailableMoves(current), expected);
+            }
+            current = other;
+        }
+    }
+}
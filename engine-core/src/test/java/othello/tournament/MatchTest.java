@@ -0,0 +1,141 @@
+package othello.tournament;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link Match}, {@link MatchStatistics}, {@link Sprt} and {@link Openings} classes.
+ */
+public class MatchTest {
+
+    /**
+     * Tests the Elo estimate and its interval against hand-computed values.
+     */
+    @Test
+    public void testEloEstimate() {
+        assertEquals(0.0, MatchStatistics.scoreToElo(0.5), 1e-9);
+        assertEquals(190.85, MatchStatistics.scoreToElo(0.75), 0.01);
+        assertEquals(0.75, MatchStatistics.eloToScore(190.85), 1e-4);
+
+        MatchStatistics statistics = new MatchStatistics();
+        for (int i = 0; i < 60; i++) {
+            statistics.add(1);
+        }
+        for (int i = 0; i < 20; i++) {
+            statistics.add(0);
+        }
+        for (int i = 0; i < 20; i++) {
+            statistics.add(-1);
+        }
+        assertEquals(100, statistics.getGames());
+        assertEquals(0.7, statistics.getScore(), 1e-12);
+        // (60 * 0.3^2 + 20 * 0.2^2 + 20 * 0.7^2) / 100
+        assertEquals(0.16, statistics.getVariance(), 1e-12);
+        assertEquals(147.19, statistics.getElo(), 0.01);
+        // 0.7 -+ 1.96 * 0.04
+        assertEquals(MatchStatistics.scoreToElo(0.7 - 1.959963984540054 * 0.04), statistics.getEloLower(), 1e-9);
+        assertEquals(MatchStatistics.scoreToElo(0.7 + 1.959963984540054 * 0.04), statistics.getEloUpper(), 1e-9);
+        assertTrue(statistics.getLikelihoodOfSuperiority() > 0.99);
+        assertTrue(new MatchStatistics().toString().startsWith("+0 =0 -0"));
+    }
+
+    /**
+     * Tests that the test accepts H1 for a clearly better score, H0 for an even one, and waits in between.
+     */
+    @Test
+    public void testSprtDecisions() {
+        Sprt sprt = new Sprt(0, 10, 0.05, 0.05);
+        assertEquals(Math.log(0.05 / 0.95), sprt.getLowerBound(), 1e-12);
+        assertEquals(Math.log(0.95 / 0.05), sprt.getUpperBound(), 1e-12);
+
+        MatchStatistics strong = new MatchStatistics();
+        MatchStatistics even = new MatchStatistics();
+        assertEquals(Sprt.Decision.CONTINUE, sprt.decide(strong));
+        // A 2/3 score: LLR = n * 0.0144 * 0.7176 / 0.4444, past the upper bound of 2.94 after about 130 games
+        for (int i = 0; i < 300; i++) {
+            strong.add(i % 3 == 0 ? -1 : 1);
+            even.add(i % 2 == 0 ? -1 : 1);
+        }
+        assertEquals(Sprt.Decision.ACCEPT_H1, sprt.decide(strong));
+        assertEquals(Sprt.Decision.CONTINUE, sprt.decide(even));
+        // An even score needs about 7100 games to fall below -2.94
+        for (int i = 0; i < 7000; i++) {
+            even.add(i % 2 == 0 ? -1 : 1);
+        }
+        assertEquals(Sprt.Decision.ACCEPT_H0, sprt.decide(even));
+        assertThrows(IllegalArgumentException.class, () -> new Sprt(10, 0, 0.05, 0.05));
+    }
+
+    /**
+     * Tests that results where every game ended the same way still stop the test early,
+     * although their plain variance is 0.
+     */
+    @Test
+    public void testSprtUniformResults() {
+        Sprt sprt = new Sprt(0, 10, 0.05, 0.05);
+        assertEquals(0.0, sprt.llr(new MatchStatistics()), 0);
+        // All wins or all losses: about 20 games. All draws: about 120, against 7100 for an even win/loss mix.
+        assertTrue(gamesToDecide(sprt, 1, Sprt.Decision.ACCEPT_H1) <= 25);
+        assertTrue(gamesToDecide(sprt, -1, Sprt.Decision.ACCEPT_H0) <= 25);
+        assertTrue(gamesToDecide(sprt, 0, Sprt.Decision.ACCEPT_H0) <= 150);
+    }
+
+    /**
+     * Adds games with the same outcome until the test decides.
+     *
+     * @param sprt     the test
+     * @param outcome  the outcome of every game: 1, 0 or -1
+     * @param expected the decision the test must reach
+     * @return the number of games it took
+     */
+    private static int gamesToDecide(Sprt sprt, int outcome, Sprt.Decision expected) {
+        MatchStatistics statistics = new MatchStatistics();
+        while (sprt.decide(statistics) == Sprt.Decision.CONTINUE) {
+            assertTrue("No decision after 1000 games", statistics.getGames() < 1000);
+            statistics.add(outcome);
+        }
+        assertEquals(expected, sprt.decide(statistics));
+        return statistics.getGames();
+    }
+
+    /**
+     * Tests reading openings, writing them back, and rejecting illegal ones.
+     */
+    @Test
+    public void testOpenings() throws Exception {
+        List<int[]> openings = Openings.read(new StringReader("# comment\nf5 d6 c3\n\nF5F6e6  # buffalo start\n"));
+        assertEquals(2, openings.size());
+        assertEquals("f5d6c3", Openings.toNotation(openings.get(0)));
+        assertEquals("f5f6e6", Openings.toNotation(openings.get(1)));
+        assertThrows(IllegalArgumentException.class, () -> Openings.parse("a1"));
+        assertThrows(IllegalArgumentException.class, () -> Openings.parse("f5f5"));
+        assertThrows(IllegalArgumentException.class, () -> Openings.parse("f5d"));
+        assertThrows(IllegalArgumentException.class, () -> Openings.parse("z9"));
+        assertFalse(Openings.standard().isEmpty());
+    }
+
+    /**
+     * Tests that a match between a searching strategy and a depth-0 one stops early with H1 accepted,
+     * and that without a test it plays exactly the game limit.
+     */
+    @Test
+    public void testMatchStopsEarly() throws InterruptedException {
+        Match match = new Match(StrategySpec.parse("custom:depth=2"), StrategySpec.parse("minimax:depth=0"),
+                Openings.standard());
+        match.setThreads(2);
+        match.setMaxGames(400);
+        match.setSprt(new Sprt(0, 200, 0.05, 0.05));
+        MatchStatistics statistics = match.run();
+        assertEquals(Sprt.Decision.ACCEPT_H1, match.getDecision());
+        assertTrue(statistics.getGames() < 400);
+        assertTrue(statistics.getElo() > 0);
+
+        match.setSprt(null);
+        match.setMaxGames(6);
+        assertEquals(6, match.run().getGames());
+        assertEquals(Sprt.Decision.CONTINUE, match.getDecision());
+    }
+}
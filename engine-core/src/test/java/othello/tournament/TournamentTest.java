@@ -0,0 +1,116 @@
+package othello.tournament;
+import org.junit.Test;
+
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link Tournament} and {@link StrategySpec} classes.
+ */
+public class TournamentTest {
+
+    /**
+     * Tests that specs parse into a name and settings, print back the same way, and reject bad input.
+     */
+    @Test
+    public void testStrategySpec() {
+        StrategySpec spec = StrategySpec.parse("custom:depth=3,algorithm=pvs,threads=2");
+        assertEquals("custom", spec.getName());
+        assertEquals(Map.of("depth", "3", "algorithm", "pvs", "threads", "2"), spec.getOptions());
+        assertEquals("custom:depth=3,algorithm=pvs,threads=2", spec.toString());
+        assertEquals("mcts", StrategySpec.parse("mcts").toString());
+        assertNotNull(StrategySpec.parse("mcts:parallelism=root,iterations=50").create());
+        assertNotNull(StrategySpec.parse("expectimax:temperature=12.5").create());
+
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("random"));
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("minimax:time=10"));
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("custom:depth=-1"));
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("custom:depth"));
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("mcts:parallelism=gpu"));
+        assertThrows(IllegalArgumentException.class, () -> StrategySpec.parse("custom:hash=0"));
+    }
+
+    /**
+     * Tests that every pairing plays its games with swapped colors on shared openings, in order,
+     * and that the same seed replays the same games.
+     */
+    @Test
+    public void testRoundRobin() throws InterruptedException {
+        List<StrategySpec> specs = List.of(StrategySpec.parse("minimax:depth=1"),
+                StrategySpec.parse("custom:depth=1"), StrategySpec.parse("expectimax:depth=1"));
+        Tournament tournament = new Tournament(specs);
+        tournament.setGamesPerPairing(4);
+        tournament.setThreads(3);
+        tournament.setSeed(5940);
+        List<GameResult> results = tournament.run();
+        assertEquals(12, results.size());
+        assertTrue(tournament.getGamesPerSecond() > 0);
+
+        for (int i = 0; i < results.size(); i++) {
+            GameResult result = results.get(i);
+            assertEquals(i / 4, result.getPairing());
+            assertEquals(i % 4, result.getGame());
+            assertTrue(result.getBlackDiscs() + result.getWhiteDiscs() <= 64);
+            assertTrue(result.getMoves() >= 4);
+            if (i % 2 == 1) {
+                GameResult previous = results.get(i - 1);
+                assertSame(previous.getBlack(), result.getWhite());
+                assertSame(previous.getWhite(), result.getBlack());
+                assertEquals(previous.getOpeningSeed(), result.getOpeningSeed());
+            }
+        }
+
+        tournament.setThreads(1);
+        List<GameResult> replay = tournament.run();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).getBlackDiscs(), replay.get(i).getBlackDiscs());
+            assertEquals(results.get(i).getWhiteDiscs(), replay.get(i).getWhiteDiscs());
+        }
+
+        StringWriter csv = new StringWriter();
+        Tournament.writeCsv(results, csv);
+        assertEquals(13, csv.toString().split("\\R").length);
+        StringWriter json = new StringWriter();
+        Tournament.writeJson(results, json);
+        assertTrue(json.toString().startsWith("["));
+        assertEquals(12, json.toString().split("\"pairing\"").length - 1);
+    }
+
+    /**
+     * Tests that an observed game shows the start position, every move, and the final position,
+     * and that the final snapshot agrees with the result.
+     */
+    @Test
+    public void testObservedGame() {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        GameResult result = Tournament.playGame(0, 0, StrategySpec.parse("minimax:depth=1"),
+                StrategySpec.parse("custom:depth=1"), new int[0], 5940, 4, snapshots::add);
+        assertEquals(result.getMoves() + 2, snapshots.size());
+
+        GameSnapshot start = snapshots.get(0);
+        assertEquals(2, start.getBlackDiscs());
+        assertEquals(2, start.getWhiteDiscs());
+        assertEquals(BoardSpace.SpaceType.BLACK, start.getType(3, 4));
+        assertEquals(Bitboard.PASS, start.getLastMove());
+        for (int i = 1; i <= result.getMoves(); i++) {
+            GameSnapshot snapshot = snapshots.get(i);
+            assertEquals(i, snapshot.getMoves());
+            assertFalse(snapshot.isFinished());
+            assertNotEquals(0, (snapshot.getBlack() | snapshot.getWhite()) & 1L << snapshot.getLastMove());
+            assertEquals(snapshots.get(i - 1).getBlackDiscs() + snapshots.get(i - 1).getWhiteDiscs() + 1,
+                    snapshot.getBlackDiscs() + snapshot.getWhiteDiscs());
+        }
+
+        GameSnapshot last = snapshots.get(snapshots.size() - 1);
+        assertTrue(last.isFinished());
+        assertEquals(result.getBlackDiscs(), last.getBlackDiscs());
+        assertEquals(result.getWhiteDiscs(), last.getWhiteDiscs());
+    }
+}
@@ -1,16 +1,11 @@
 module othello {
     requires javafx.controls;
     requires javafx.fxml;
-    requires java.sql;
-    requires junit;
-    requires org.junit.jupiter.api;
-    requires java.desktop;
+    requires othello.engine;
 
 
     opens othello to javafx.fxml;
     exports othello;
     exports othello.gui;
     opens othello.gui to javafx.fxml;
-    exports othello.gamelogic;
-    opens othello.gamelogic to javafx.fxml;
-}
\ No newline at end of file
+}
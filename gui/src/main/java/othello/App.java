@@ -19,6 +19,7 @@ public class App extends javafx.application.Application {
     // The program arguments MUST match one of these items!
     // Edit this list to add more items!
     private final List<String> acceptedArgs = List.of("human", "minimax", "expectimax", "mcts", "custom");
+    private GameController controller;
 
     @Override
     public void start(Stage stage) throws IOException {
@@ -27,7 +28,7 @@ public class App extends javafx.application.Application {
         FXMLLoader fxmlLoader;
         fxmlLoader = new FXMLLoader(App.class.getResource("game-view.fxml"));
         Parent root = fxmlLoader.load();
-        GameController controller = fxmlLoader.getController();
+        controller = fxmlLoader.getController();
         if (argList.size() != 2) {
             System.err.println("Error: Did not provide 2 program arguments");
             System.exit(1);
@@ -46,6 +47,14 @@ public class App extends javafx.application.Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        // Closing the window abandons a computer move that is still being searched
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,78 @@
+package othello;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import othello.gui.SpectatorView;
+import othello.tournament.StrategySpec;
+
+/**
+ * Watches many computer games at once, for example:
+ * {@code Spectator --boards 16 --move-delay 100 custom:depth=4 minimax:depth=3}.
+ *
+ * <p>Options: {@code --boards N} (default 9), {@code --threads T} (default: the number of processors),
+ * {@code --seed S}, {@code --opening-plies K}, {@code --move-delay MS} and {@code --square-size PX}.
+ * Every other argument is a strategy spec as read by {@link StrategySpec#parse(String)}; at least two are needed.
+ */
+public class Spectator extends javafx.application.Application {
+    private SpectatorView view;
+
+    @Override
+    public void start(Stage stage) {
+        List<String> args = getParameters().getRaw();
+        List<StrategySpec> specs = new ArrayList<>();
+        int boards = 9;
+        int threads = Runtime.getRuntime().availableProcessors();
+        double squareSize = 24;
+        Long seed = null;
+        Integer openingPlies = null;
+        Long moveDelay = null;
+        for (int i = 0; i < args.size(); i++) {
+            switch (args.get(i)) {
+                case "--boards" -> boards = Integer.parseInt(args.get(++i));
+                case "--threads" -> threads = Integer.parseInt(args.get(++i));
+                case "--seed" -> seed = Long.parseLong(args.get(++i));
+                case "--opening-plies" -> openingPlies = Integer.parseInt(args.get(++i));
+                case "--move-delay" -> moveDelay = Long.parseLong(args.get(++i));
+                case "--square-size" -> squareSize = Double.parseDouble(args.get(++i));
+                default -> specs.add(StrategySpec.parse(args.get(i)));
+            }
+        }
+        if (specs.size() < 2) {
+            System.err.println("Error: Did not provide at least 2 strategy specs");
+            System.exit(1);
+        }
+
+        view = new SpectatorView(specs, boards, threads, squareSize);
+        if (seed != null) {
+            view.setSeed(seed);
+        }
+        if (openingPlies != null) {
+            view.setOpeningPlies(openingPlies);
+        }
+        if (moveDelay != null) {
+            view.setMoveDelayMillis(moveDelay);
+        }
+        Scene scene = new Scene(view.getNode(), 960, 720);
+        scene.getStylesheets().add(getClass().getResource("/othello/light-theme.css").toExternalForm());
+        stage.setTitle("Othello Spectator");
+        stage.setScene(scene);
+        stage.show();
+        view.start();
+    }
+
+    @Override
+    public void stop() {
+        // Games still running are abandoned with the window
+        if (view != null) {
+            view.stop();
+        }
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
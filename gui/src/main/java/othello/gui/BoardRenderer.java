@@ -0,0 +1,95 @@
+package othello.gui;
+
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.OthelloGame;
+
+import java.util.Collection;
+
+/**
+ * Draws an Othello board. The controller adds {@link #getNode()} to the window once, then tells the
+ * renderer what changed: the board after a move, the moves on offer and the one under the mouse.
+ * Square (x, y) is drawn at {@code (x * size, y * size)} inside the node, where size is {@link #getSquareSize()}.
+ *
+ * <p>Two renderers are available: {@link SceneGraphRenderer}, with a Pane, Rectangle and Circle for every square,
+ * and {@link CanvasRenderer}, which draws everything onto a single Canvas. The window uses the one named by the
+ * system property {@value #RENDERER_PROPERTY}, see {@link #create(String)}.
+ */
+public interface BoardRenderer {
+    /** The system property that selects the renderer of the game window: "nodes" (the default) or "canvas". */
+    String RENDERER_PROPERTY = "othello.renderer";
+    /** Background of a square that is a move of the human to play. */
+    Color MOVE_COLOR = Color.LIGHTYELLOW;
+    /** Background of the move under the mouse. */
+    Color HOVER_COLOR = Color.LIME;
+
+    /**
+     * Creates a renderer by name, with squares of {@link GUISpace#SQUARE_SIZE}.
+     *
+     * @param name "nodes" for a {@link SceneGraphRenderer} or "canvas" for a {@link CanvasRenderer}
+     * @return the renderer
+     * @throws IllegalArgumentException if the name is not known
+     */
+    static BoardRenderer create(String name) {
+        return switch (name) {
+            case "nodes" -> new SceneGraphRenderer();
+            case "canvas" -> new CanvasRenderer(GUISpace.SQUARE_SIZE);
+            default -> throw new IllegalArgumentException("Unknown renderer '" + name + "', expected nodes or canvas");
+        };
+    }
+
+    /**
+     * @return the node that shows the board, to be added to the window once
+     */
+    Node getNode();
+
+    /**
+     * @return the width and height of one square in pixels
+     */
+    double getSquareSize();
+
+    /**
+     * Sets the theme the board is drawn with and redraws it.
+     * @param theme the theme
+     */
+    void setTheme(Theme theme);
+
+    /**
+     * Brings the drawing up to date with a board. Only the squares whose disc changed need to be redrawn.
+     * @param board the game board
+     */
+    void render(BoardSpace[][] board);
+
+    /**
+     * Highlights the moves of the human to play, replacing any highlighted before.
+     * @param moves the destination spaces of the moves
+     */
+    void showMoves(Collection<BoardSpace> moves);
+
+    /**
+     * Removes the move highlights and the hover highlight.
+     */
+    void clearMoves();
+
+    /**
+     * Highlights the move under the mouse, which must be one of the moves shown.
+     * @param move the move, or null if the mouse is not over one
+     */
+    void setHovered(BoardSpace move);
+
+    /**
+     * Maps a point of the node to the square under it.
+     * @param x x coordinate relative to the node
+     * @param y y coordinate relative to the node
+     * @return the square, with bit {@code x * 8 + y} for square (x, y), or -1 if the point is outside the board
+     */
+    default int squareAt(double x, double y) {
+        double size = getSquareSize();
+        if (x < 0 || y < 0 || x >= size * OthelloGame.GAME_BOARD_SIZE || y >= size * OthelloGame.GAME_BOARD_SIZE) {
+            return -1;
+        }
+        return Bitboard.square((int) (x / size), (int) (y / size));
+    }
+}
@@ -0,0 +1,236 @@
+package othello.gui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import othello.gamelogic.Bitboard;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.OthelloGame;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Draws the board onto a single {@link Canvas}: the squares, the grid, the discs and the move highlights,
+ * with a flip animation for discs that change color. The whole board is one node, against 192 for
+ * {@link SceneGraphRenderer}, which is what matters when many boards are on screen at once.
+ *
+ * <p>The board is redrawn only when something changes, and on every frame while discs are flipping.
+ * Draw calls are grouped by color so the graphics context changes state as little as possible.
+ */
+public class CanvasRenderer implements BoardRenderer {
+    private static final int SIZE = OthelloGame.GAME_BOARD_SIZE;
+    private static final Color DEFAULT_BOARD_COLOR = Color.LIMEGREEN;
+
+    private final double squareSize;
+    private final Canvas canvas;
+    private Theme theme;
+
+    // The discs shown on every square, and the colors of the discs being flipped before they turned
+    private final BoardSpace.SpaceType[] types = new BoardSpace.SpaceType[Bitboard.NUM_SQUARES];
+    private final BoardSpace.SpaceType[] flippedFrom = new BoardSpace.SpaceType[Bitboard.NUM_SQUARES];
+    private long flipping;  // squares whose flip is being animated
+    private long flipStart;
+    private long flipNanos;
+
+    private long moves;  // squares highlighted as moves
+    private int hovered = -1;
+
+    private final AnimationTimer flipTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (now - flipStart >= flipNanos) {
+                flipping = 0;
+                stop();
+            }
+            draw(now);
+        }
+    };
+
+    /**
+     * Creates the renderer of an empty board.
+     * @param squareSize the width and height of one square in pixels
+     */
+    public CanvasRenderer(double squareSize) {
+        this.squareSize = squareSize;
+        canvas = new Canvas(squareSize * SIZE, squareSize * SIZE);
+        Arrays.fill(types, BoardSpace.SpaceType.EMPTY);
+        draw(System.nanoTime());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Node getNode() {
+        return canvas;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getSquareSize() {
+        return squareSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTheme(Theme theme) {
+        this.theme = theme;
+        draw(System.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Discs that change from one color to the other flip over the theme's flip duration,
+     * unless the theme has animations turned off. A flip still running when the next board arrives is cut short.
+     */
+    @Override
+    public void render(BoardSpace[][] board) {
+        render(Bitboard.mask(board, BoardSpace.SpaceType.BLACK), Bitboard.mask(board, BoardSpace.SpaceType.WHITE));
+    }
+
+    /**
+     * Brings the drawing up to date with a position given as bitboards, like {@link #render(BoardSpace[][])}.
+     * @param black the black discs, with bit {@code x * 8 + y} for square (x, y)
+     * @param white the white discs
+     */
+    public void render(long black, long white) {
+        long flips = 0;
+        boolean changed = false;
+        for (int square = 0; square < Bitboard.NUM_SQUARES; square++) {
+            long bit = 1L << square;
+            BoardSpace.SpaceType type = (black & bit) != 0 ? BoardSpace.SpaceType.BLACK
+                    : (white & bit) != 0 ? BoardSpace.SpaceType.WHITE : BoardSpace.SpaceType.EMPTY;
+            if (types[square] == type) {
+                continue;
+            }
+            if (types[square] != BoardSpace.SpaceType.EMPTY && type != BoardSpace.SpaceType.EMPTY) {
+                flippedFrom[square] = types[square];
+                flips |= bit;
+            }
+            types[square] = type;
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean animate = theme == null || theme.supportsAnimatedTransitions();
+        if (flips != 0 && animate) {
+            flipping = flips;
+            flipStart = now;
+            flipNanos = (long) ((theme == null ? 300 : theme.getFlipAnimationDuration().toMillis()) * 1_000_000L);
+            flipTimer.start();
+        } else {
+            flipping = 0;
+            flipTimer.stop();
+        }
+        draw(now);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void showMoves(Collection<BoardSpace> moves) {
+        long mask = 0;
+        for (BoardSpace move : moves) {
+            mask |= 1L << Bitboard.square(move.getX(), move.getY());
+        }
+        this.moves = mask;
+        hovered = -1;
+        draw(System.nanoTime());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearMoves() {
+        if (moves != 0 || hovered >= 0) {
+            moves = 0;
+            hovered = -1;
+            draw(System.nanoTime());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setHovered(BoardSpace move) {
+        int square = move == null ? -1 : Bitboard.square(move.getX(), move.getY());
+        if (square != hovered) {
+            hovered = square;
+            draw(System.nanoTime());
+        }
+    }
+
+    /**
+     * Redraws the whole board.
+     * @param now the current time from System.nanoTime(), which sets how far the flips have turned
+     */
+    private void draw(long now) {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double width = squareSize * SIZE;
+
+        // Squares: one fill of the board color, then the highlighted squares on top
+        g.setFill(theme == null ? DEFAULT_BOARD_COLOR : theme.getBoardColor());
+        g.fillRect(0, 0, width, width);
+        long plain = moves & ~(hovered >= 0 ? 1L << hovered : 0);
+        fillSquares(g, plain, MOVE_COLOR);
+        if (hovered >= 0) {
+            fillSquares(g, 1L << hovered, HOVER_COLOR);
+        }
+
+        // Grid, as one path
+        g.setStroke(Color.BLACK);
+        g.setLineWidth(1);
+        g.beginPath();
+        for (int i = 0; i <= SIZE; i++) {
+            double offset = Math.min(i * squareSize + 0.5, width - 0.5);  // on the pixel grid, inside the canvas
+            g.moveTo(offset, 0);
+            g.lineTo(offset, width);
+            g.moveTo(0, offset);
+            g.lineTo(width, offset);
+        }
+        g.stroke();
+
+        // Discs, one color at a time. A flipping disc narrows to a line in its old color, then widens in the new one.
+        double progress = flipping == 0 ? 1 : Math.min(1, (now - flipStart) / (double) flipNanos);
+        for (BoardSpace.SpaceType color : new BoardSpace.SpaceType[] {BoardSpace.SpaceType.BLACK, BoardSpace.SpaceType.WHITE}) {
+            g.setFill(SpaceColors.fill(color));
+            for (int square = 0; square < Bitboard.NUM_SQUARES; square++) {
+                boolean flip = (flipping & 1L << square) != 0;
+                BoardSpace.SpaceType shown = flip && progress < 0.5 ? flippedFrom[square] : types[square];
+                if (shown == color) {
+                    drawDisc(g, square, flip ? Math.abs(1 - 2 * progress) : 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the background of every square of a mask.
+     * @param g the graphics context
+     * @param squares the squares to fill
+     * @param color the fill color
+     */
+    private void fillSquares(GraphicsContext g, long squares, Color color) {
+        g.setFill(color);
+        for (long bits = squares; bits != 0; bits &= bits - 1) {
+            int square = Long.numberOfTrailingZeros(bits);
+            g.fillRect(Bitboard.row(square) * squareSize + 1, Bitboard.col(square) * squareSize + 1,
+                    squareSize - 1, squareSize - 1);
+        }
+    }
+
+    /**
+     * Draws one disc in the current fill color, with the same inset and outline as a {@link GUISpace} disc.
+     * @param g the graphics context
+     * @param square the square of the disc
+     * @param scaleX the width of the disc relative to a flat disc, for the flip animation
+     */
+    private void drawDisc(GraphicsContext g, int square, double scaleX) {
+        double radius = squareSize / 2 - squareSize / 12;
+        double centerX = Bitboard.row(square) * squareSize + squareSize / 2;
+        double centerY = Bitboard.col(square) * squareSize + squareSize / 2;
+        double radiusX = radius * scaleX;
+        g.fillOval(centerX - radiusX, centerY - radius, 2 * radiusX, 2 * radius);
+        g.strokeOval(centerX - radiusX, centerY - radius, 2 * radiusX, 2 * radius);
+    }
+}
@@ -10,6 +10,7 @@ import othello.gamelogic.BoardSpace;
 /**
  * Represents a space on the GUI board.
  * Includes a Pane that hosts a Rectangle for a background and a Circle for the colored disc.
+ * The nodes are created once and kept for the whole game: a disc change only recolors or hides the Circle.
  */
 public class GUISpace {
     public static final int SQUARE_SIZE = 60;
@@ -49,7 +50,11 @@ public class GUISpace {
         bg = new Rectangle(SQUARE_SIZE, SQUARE_SIZE);
         bg.setStroke(Color.BLACK);
         bg.setFill(Color.LIMEGREEN);
-        squarePane.getChildren().add(bg);
+        int squareCenter = SQUARE_SIZE / 2;
+        disc = new Circle(squareCenter, squareCenter, squareCenter - 5);
+        disc.setStroke(Color.BLACK);
+        disc.setVisible(false);
+        squarePane.getChildren().addAll(bg, disc);
     }
 
     /**
@@ -68,23 +73,23 @@ public class GUISpace {
     }
 
     /**
-     * Adds a visual disc to this Pane, replacing the current disc or adding it to an empty space
-     * @param type type or color of disc to add
+     * @return the type of disc currently shown, EMPTY if there is none
+     */
+    public BoardSpace.SpaceType getType() {
+        return type;
+    }
+
+    /**
+     * Shows a disc of the given type on this Pane, replacing the current disc, or hides it for EMPTY
+     * @param type type or color of disc to show
      */
     public void addOrUpdateDisc(BoardSpace.SpaceType type) {
-        if (squarePane.getChildren().contains(disc)) {
-            squarePane.getChildren().remove(disc);
-        }
         this.type = type;
         if (this.type == BoardSpace.SpaceType.BLACK || this.type == BoardSpace.SpaceType.WHITE) {
-            disc = new Circle();
-            int squareCenter = SQUARE_SIZE / 2;
-            disc.setRadius(squareCenter - 5);
-            disc.setFill(this.type.fill());
-            disc.setStroke(Color.BLACK);
-            disc.setCenterX(squareCenter);
-            disc.setCenterY(squareCenter);
-            squarePane.getChildren().add(disc);
+            disc.setFill(SpaceColors.fill(this.type));
+            disc.setVisible(true);
+        } else {
+            disc.setVisible(false);
         }
     }
 }
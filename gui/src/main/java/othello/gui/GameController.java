@@ -1,7 +1,6 @@
 package othello.gui;
 
 import javafx.animation.*;
-import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -11,8 +10,8 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
-import org.junit.runner.Computer;
 import othello.gamelogic.*;
+import othello.tournament.Openings;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +26,7 @@ public class GameController  {
     @FXML private Circle turnCircle;
     @FXML private Button computerTurnBtn;
     @FXML private Button themeToggleBtn; // Added button
+    @FXML private Button restartBtn;
     @FXML private Rectangle blackScoreBar;
     @FXML private Rectangle whiteScoreBar;
     @FXML private Rectangle blackScoreBackground;
@@ -36,14 +36,79 @@ public class GameController  {
     // Private variables
     private OthelloGame og;
     private int skippedTurns;
-    private GUISpace[][] guiBoard;
+    private BoardRenderer renderer;
     private Theme currentTheme; // adding the Theme
+    private String playerOneType;
+    private String playerTwoType;
+    private final SearchService searchService = new SearchService();
+
+    // The human to play and their moves while they choose one, null otherwise
+    private HumanPlayer humanToMove;
+    private Map<BoardSpace, List<BoardSpace>> humanMoves;
+    private BoardSpace hoveredMove;
 
     @FXML
     public void initialize() {
         currentTheme = new LightTheme(); //set the default theme
         applyTheme();
         rightPanel.setStyle("-fx-background-color: " + colorToHex(currentTheme.getRightPanelColor()));
+        installBoardListeners();
+    }
+
+    /**
+     * Handles the mouse for the whole board with one set of listeners, instead of handlers on every square.
+     * Hovering over a move of the human to play highlights it, and clicking it plays it.
+     */
+    private void installBoardListeners() {
+        gameBoard.addEventHandler(MouseEvent.MOUSE_MOVED, event -> hover(moveAt(event.getX(), event.getY())));
+        gameBoard.addEventHandler(MouseEvent.MOUSE_EXITED, event -> hover(null));
+        gameBoard.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+            BoardSpace destination = moveAt(event.getX(), event.getY());
+            if (destination != null) {
+                selectSpace(humanToMove, humanMoves, destination);
+            }
+        });
+    }
+
+    /**
+     * Finds the move of the human to play under the mouse.
+     * @param mouseX x coordinate relative to the board
+     * @param mouseY y coordinate relative to the board
+     * @return the space of the move, or null if the square is not a legal move or no human is choosing one
+     */
+    private BoardSpace moveAt(double mouseX, double mouseY) {
+        if (humanMoves == null) {
+            return null;
+        }
+        int square = renderer.squareAt(mouseX, mouseY);
+        if (square < 0) {
+            return null;
+        }
+        BoardSpace space = og.getBoard()[Bitboard.row(square)][Bitboard.col(square)];
+        return humanMoves.containsKey(space) ? space : null;
+    }
+
+    /**
+     * Moves the hover highlight to another move, redrawing only when the move under the mouse changes.
+     * @param destination the move under the mouse, or null for none
+     */
+    private void hover(BoardSpace destination) {
+        if (destination != hoveredMove) {
+            hoveredMove = destination;
+            renderer.setHovered(destination);
+        }
+    }
+
+    /**
+     * Removes the highlights of the human's moves, once one is chosen or the game is restarted.
+     */
+    private void clearMoves() {
+        if (renderer != null) {
+            renderer.clearMoves();
+        }
+        humanToMove = null;
+        humanMoves = null;
+        hoveredMove = null;
     }
 
     /**
@@ -54,6 +119,8 @@ public class GameController  {
      * @param arg2 type of player for player 2, either "human" or some computer strategy
      */
     public void initGame(String arg1, String arg2) {
+        playerOneType = arg1;
+        playerTwoType = arg2;
         Player playerOne;
         Player playerTwo;
 
@@ -79,11 +146,12 @@ public class GameController  {
         playerOne.setColor(BoardSpace.SpaceType.BLACK);
         playerTwo.setColor(BoardSpace.SpaceType.WHITE);
 
-        // Make a new game, create the visual board and display it with initial spaces
+        // Make a new game, create the visual board once and display the initial spaces
         og = new OthelloGame(playerOne, playerTwo);
-        guiBoard = new GUISpace[8][8];
-        displayBoard();
-        initSpaces();
+        if (renderer == null) {
+            displayBoard();
+        }
+        renderBoard();
         updateScoreBoard();
 
         // Player 1 starts the game
@@ -91,11 +159,33 @@ public class GameController  {
         takeTurn(playerOne);
     }
 
+    /**
+     * Starts a new game with the same players, abandoning any computer move being searched.
+     */
+    @FXML
+    protected void restartGame() {
+        searchService.cancel();
+        computerTurnBtn.setDisable(false);
+        skippedTurns = 0;
+        clearMoves();
+        initGame(playerOneType, playerTwoType);
+        animateButtonPress(restartBtn);
+    }
+
+    /**
+     * Stops the background search thread, called when the window closes.
+     */
+    public void shutdown() {
+        searchService.shutdown();
+    }
+
     /**
      * Toggles between Light and Dark themes and applies the selected theme to the game board and UI.
+     * A computer move being searched is cancelled; the computer turn button starts it again.
      */
     @FXML
     protected void toggleTheme() {
+        searchService.cancel();
         if (currentTheme instanceof LightTheme) {
             currentTheme = new DarkTheme();
             themeToggleBtn.setText("Light Mode");
@@ -121,7 +211,7 @@ public class GameController  {
             showMoves((HumanPlayer) currentPlayer);
         } else {
             computerTurnBtn.setVisible(true);
-            showMoves((HumanPlayer) currentPlayer);
+            computerTurnBtn.setDisable(false);
         }
     }
 
@@ -130,8 +220,8 @@ public class GameController  {
      * Updates the visual score bars representing each player's score.
      */
     private void updateScoreBoard() {
-        int blackScore = countColor(og.getBoard(), og.getPlayerOne().getColor());
-        int whiteScore = countColor(og.getBoard(), og.getPlayerTwo().getColor());
+        int blackScore = og.getDiscCount(og.getPlayerOne().getColor());
+        int whiteScore = og.getDiscCount(og.getPlayerTwo().getColor());
         int total = blackScore + whiteScore;
         double blackWidth = total > 0 ? (blackScore / (double) total) * 100 : 0;
         double whiteWidth = total > 0 ? (whiteScore / (double) total) * 100 : 0;
@@ -160,14 +250,8 @@ public class GameController  {
         gameBoard.setStyle("-fx-background-color: " + colorToHex(currentTheme.getBackgroundColor()));
         turnLabel.setTextFill(currentTheme.getTextColor());
 
-        if (guiBoard != null) {
-            for (GUISpace[] row : guiBoard) {
-                for (GUISpace space : row) {
-                    if (space != null) {
-                        space.setTheme(currentTheme);
-                    }
-                }
-            }
+        if (renderer != null) {
+            renderer.setTheme(currentTheme);
         }
         // Update computer turn button style
         if (currentTheme instanceof LightTheme) {
@@ -205,68 +289,23 @@ public class GameController  {
     }
 
     /**
-     * Displays the board initially, adding the GUI squares into the window.
-     * Also adds the initial state of the board with black and white taking spaces at the center.
+     * Displays the board initially, adding the renderer chosen by the {@value BoardRenderer#RENDERER_PROPERTY}
+     * system property into the window. The renderer is kept for the rest of the session and updated by
+     * {@link #renderBoard()}.
      */
     @FXML
     protected void displayBoard() {
-        BoardSpace[][] board = og.getBoard();
-        for (BoardSpace[] spaces : board) {
-            for (BoardSpace space : spaces) {
-                GUISpace guiSpace = new GUISpace(space.getX(), space.getY(), space.getType());
-                //bug fix
-                guiSpace.setTheme(currentTheme);
-                Pane square = guiSpace.getSquare();
-                gameBoard.getChildren().add(square);
-                guiBoard[space.getX()][space.getY()] = guiSpace;
-            }
-        }
-    }
-
-    /**
-     * Clears the board visually, called every time the board is redisplayed after the first time
-     */
-    @FXML
-    protected void clearBoard() {
-        BoardSpace[][] board = og.getBoard();
-        for (BoardSpace[] spaces : board) {
-            for (BoardSpace space : spaces) {
-                GUISpace guiSpace = guiBoard[space.getX()][space.getY()];
-                Pane square = guiSpace.getSquare();
-                gameBoard.getChildren().remove(square);
-            }
-        }
+        renderer = BoardRenderer.create(System.getProperty(BoardRenderer.RENDERER_PROPERTY, "nodes"));
+        renderer.setTheme(currentTheme);
+        gameBoard.getChildren().add(renderer.getNode());
     }
 
     /**
-     * Sets the initial state of the Othello board
+     * Brings the GUI board up to date with the game board after a move.
+     * Only the squares whose disc changed are redrawn.
      */
-    @FXML
-    protected void initSpaces(){
-        // Initial spaces
-        guiBoard[3][3].addOrUpdateDisc(BoardSpace.SpaceType.WHITE);
-        guiBoard[4][4].addOrUpdateDisc(BoardSpace.SpaceType.WHITE);
-        guiBoard[3][4].addOrUpdateDisc(BoardSpace.SpaceType.BLACK);
-        guiBoard[4][3].addOrUpdateDisc(BoardSpace.SpaceType.BLACK);
-    }
-
-    /**
-     * Counts the number of board spaces that match the given type (BLACK or WHITE).
-     *
-     * @param board the current game board
-     * @param type the {@link BoardSpace.SpaceType} to count
-     * @return the number of matching board spaces
-     */
-    private int countColor(BoardSpace[][] board, BoardSpace.SpaceType type) {
-        int count = 0;
-        for (BoardSpace[] row : board) {
-            for (BoardSpace space : row) {
-                if (space.getType() == type) {
-                    count++;
-                }
-            }
-        }
-        return count;
+    private void renderBoard() {
+        renderer.render(og.getBoard());
     }
 
     /**
@@ -276,11 +315,11 @@ public class GameController  {
     @FXML
     protected void turnText(Player player) {
         String humanOrCom = player instanceof HumanPlayer ? "(Human)\n" : "(Computer)\n";
-        turnCircle.setFill(player.getColor().fill());
+        turnCircle.setFill(SpaceColors.fill(player.getColor()));
         turnLabel.setText(
                 player.getColor() + "'s Turn\n" + humanOrCom + "Score: \n" +
-                        og.getPlayerOne().getColor() + ": " + countColor(og.getBoard(), og.getPlayerOne().getColor()) + " - " +
-                        og.getPlayerTwo().getColor() + ": " + countColor(og.getBoard(), og.getPlayerTwo().getColor()));
+                        og.getPlayerOne().getColor() + ": " + og.getDiscCount(og.getPlayerOne().getColor()) + " - " +
+                        og.getPlayerTwo().getColor() + ": " + og.getDiscCount(og.getPlayerTwo().getColor()));
         turnLabel.setTextFill(currentTheme.getTextColor());
     }
 
@@ -318,8 +357,8 @@ public class GameController  {
     protected void skipTurnText(Player player) {
         turnLabel.setText(
                 "Skipped " + player.getColor() + " \n due to no moves available! \n" + otherPlayer(player).getColor() + "'s Turn\n" +
-                        og.getPlayerOne().getColor() + ": " + countColor(og.getBoard(), og.getPlayerOne().getColor()) + " - " +
-                        og.getPlayerTwo().getColor() + ": " + countColor(og.getBoard(), og.getPlayerTwo().getColor()));
+                        og.getPlayerOne().getColor() + ": " + og.getDiscCount(og.getPlayerOne().getColor()) + " - " +
+                        og.getPlayerTwo().getColor() + ": " + og.getDiscCount(og.getPlayerTwo().getColor()));
     }
 
     /**
@@ -336,6 +375,7 @@ public class GameController  {
             showMoves(human);
         } else if (player instanceof ComputerPlayer computer) {
             computerTurnBtn.setVisible(true);
+            computerTurnBtn.setDisable(false);
             computerTurnBtn.setOnAction(actionEvent -> {
                 computerDecision(computer);
             });
@@ -354,72 +394,81 @@ public class GameController  {
         if (availableMoves == null) {
             turnLabel.setText("Null move found for \n" + player.getColor() + "! \n Please implement \ngetAvailableMoves()!");
         } else if (availableMoves.size() == 0) {
-            if (countColor(og.getBoard(), og.getPlayerOne().getColor()) + countColor(og.getBoard(), og.getPlayerTwo().getColor()) != 64 && skippedTurns != 2) {
+            if (!og.isBoardFull() && skippedTurns != 2) {
                 skipTurnText(player);
                 takeTurn(otherPlayer(player));
                 skippedTurns++;
-            } else if (skippedTurns == 2 || countColor(og.getBoard(), og.getPlayerOne().getColor()) + countColor(og.getBoard(), og.getPlayerTwo().getColor()) == 64){
+            } else if (skippedTurns == 2 || og.isBoardFull()){
                 gameOver();
             }
         } else {
             skippedTurns = 0;
-            for (BoardSpace destination : availableMoves.keySet()) {
-                // Attach hover listener (Enter, Exit) to each Pane
-                GUISpace guiSpace = guiBoard[destination.getX()][destination.getY()];
-                Pane currPane = guiSpace.getSquare();
-                guiSpace.setBgColor(Color.LIGHTYELLOW);
-                EventHandler<MouseEvent> enter = event -> guiSpace.setBgColor(Color.LIME);
-                EventHandler<MouseEvent> exit = event -> guiSpace.setBgColor(Color.LIGHTYELLOW);
-                currPane.addEventHandler(MouseEvent.MOUSE_ENTERED, enter);
-                currPane.addEventHandler(MouseEvent.MOUSE_EXITED, exit);
-                // Click removes hovers
-                currPane.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
-                    currPane.removeEventHandler(MouseEvent.MOUSE_ENTERED, enter);
-                    currPane.removeEventHandler(MouseEvent.MOUSE_EXITED, exit);
-                    selectSpace(player, availableMoves, destination);
-                });
-            }
+            // The board listeners handle hovering and clicking these moves
+            humanToMove = player;
+            humanMoves = availableMoves;
+            hoveredMove = null;
+            renderer.showMoves(availableMoves.keySet());
         }
 
     }
 
     /**
      * Gets the computer decision, then selects the space.
+     * The search runs in the background, and the move is played by {@link #playComputerMove} when it arrives.
      * @param player a reference to the current computer player (could be player 1 or 2)
      */
     @FXML
     protected void computerDecision(ComputerPlayer player) {
-        Map<BoardSpace, List<BoardSpace>> availableMoves = og.getAvailableMoves(player);
-        if (availableMoves == null) {
-            turnLabel.setText("Null move found for \n" + player.getColor() + "! \n Please implement \ncomputerDecision()!");
-        } else if (availableMoves.size() == 0) {
-            if (countColor(og.getBoard(), og.getPlayerOne().getColor()) + countColor(og.getBoard(), og.getPlayerTwo().getColor()) != 64 && skippedTurns != 2) {
+        long availableMoves = og.getMoveMask(player);
+        if (availableMoves == 0) {
+            if (!og.isBoardFull() && skippedTurns != 2) {
                 skipTurnText(player);
                 takeTurn(otherPlayer(player));
                 skippedTurns++;
-            } else if (skippedTurns == 2 || countColor(og.getBoard(), og.getPlayerOne().getColor()) + countColor(og.getBoard(), og.getPlayerTwo().getColor()) == 64){
+            } else if (skippedTurns == 2 || og.isBoardFull()){
                 gameOver();
             }
-
+            updateScoreBoard();
         } else {
             skippedTurns = 0;
 //            BoardSpace selectedDestination = og.computerDecision(player);
-            BoardSpace selectedDestination = player.chooseMove(og.getBoard(), player, otherPlayer(player));
+            computerTurnBtn.setDisable(true);
+            searchService.start(player, otherPlayer(player), og.getBoard(),
+                    (depth, bestSquare, nodes) -> thinkingText(player, depth, bestSquare, nodes),
+                    selectedDestination -> playComputerMove(player, selectedDestination));
+        }
+    }
 
-            // From all origins, path to the destination and take spaces
-            og.takeSpaces(player, otherPlayer(player), availableMoves, selectedDestination);
-            updateGUIBoard(player, availableMoves, selectedDestination);
+    /**
+     * Plays the move the background search chose for a computer player.
+     * @param player the computer player that searched
+     * @param selectedDestination the chosen space, only its coordinates are used
+     */
+    private void playComputerMove(ComputerPlayer player, BoardSpace selectedDestination) {
+        int square = Bitboard.square(selectedDestination.getX(), selectedDestination.getY());
 
-            // Redisplay the new board
-            clearBoard();
-            displayBoard();
+        // Flips are derived from the chosen square, no origin lists needed
+        og.takeSpaces(player, otherPlayer(player), square);
+        renderBoard();
 
-            // Next opponent turn
-            turnText(otherPlayer(player));
-            takeTurn(otherPlayer(player));
-        }
+        // Next opponent turn
+        turnText(otherPlayer(player));
+        takeTurn(otherPlayer(player));
         updateScoreBoard();
+    }
 
+    /**
+     * Shows the progress of a computer player's search in the turn label.
+     * @param player the computer player that is searching
+     * @param depth the depth just completed
+     * @param bestSquare the best move at that depth
+     * @param nodes the nodes searched so far
+     */
+    private void thinkingText(ComputerPlayer player, int depth, int bestSquare, long nodes) {
+        turnLabel.setText(
+                player.getColor() + "'s Turn\n(Computer)\nThinking...\n" +
+                        "Depth " + depth + ": " + Openings.toNotation(new int[] {bestSquare}) + "\n" +
+                        nodes + " nodes");
     }
 
     /**
@@ -430,40 +479,11 @@ public class GameController  {
      */
     @FXML
     protected void selectSpace(Player player, Map<BoardSpace, List<BoardSpace>> availableMoves, BoardSpace selectedDestination) {
-        // Remove other handlers by reinitializing empty spaces where they are
-        for (BoardSpace destination : availableMoves.keySet()) {
-            GUISpace guiSpace = guiBoard[destination.getX()][destination.getY()];
-            if (destination != selectedDestination) {
-                // Reinit unselected spaces, to remove event handlers
-                og.getBoard()[destination.getX()][destination.getY()] =
-                        new BoardSpace(destination.getX(), destination.getY(), BoardSpace.SpaceType.EMPTY);
-                gameBoard.getChildren().remove(guiSpace.getSquare());
-                GUISpace newGuiSpace = new GUISpace(destination.getX(), destination.getY(), BoardSpace.SpaceType.EMPTY);
-                Pane newSquare = newGuiSpace.getSquare();
-                gameBoard.getChildren().add(newSquare);
-                guiBoard[destination.getX()][destination.getY()] = guiSpace;
-            } else {
-                og.getBoard()[destination.getX()][destination.getY()] =
-                        new BoardSpace(destination.getX(), destination.getY(), player.getColor());
-                gameBoard.getChildren().remove(guiSpace.getSquare());
-                GUISpace newGuiSpace = new GUISpace(destination.getX(), destination.getY(), player.getColor());
-                Pane newSquare = newGuiSpace.getSquare();
-                gameBoard.getChildren().add(newSquare);
-                guiBoard[destination.getX()][destination.getY()] = guiSpace;
-            }
-        }
-
-        // Recolor the bg of the destination
-        GUISpace guiSpace = guiBoard[selectedDestination.getX()][selectedDestination.getY()];
-        guiSpace.setBgColor(Color.LIMEGREEN);
+        clearMoves();
 
         // From all origins, path to the destination and take spaces
         og.takeSpaces(player, otherPlayer(player), availableMoves, selectedDestination);
-        updateGUIBoard(player, availableMoves, selectedDestination);
-
-        // Redisplay the new board
-        clearBoard();
-        displayBoard();
+        renderBoard();
 
         updateScoreBoard();
 
@@ -472,43 +492,6 @@ public class GameController  {
         takeTurn(otherPlayer(player));
     }
 
-    /**
-     * Updates the GUI Board by adding or updating discs from all origins to a given destination
-     * @param player player that is taking a turn
-     * @param availableMoves the list of all available destinations and origins
-     * @param selectedDestination the selected destination from either user input or computer decision
-     */
-    @FXML
-    protected void updateGUIBoard(Player player, Map<BoardSpace, List<BoardSpace>> availableMoves, BoardSpace selectedDestination) {
-        List<BoardSpace> selectedOrigins = availableMoves.get(selectedDestination);
-        //👇🏻debug
-        if (selectedOrigins == null) {
-//            System.err.println("Error: selectedDestination is not in availableMoves!");
-            return;
-        }
-        for (BoardSpace selectedOrigin : selectedOrigins) {
-            int offsetX = selectedDestination.getX() - selectedOrigin.getX();
-            int offsetY = selectedDestination.getY() - selectedOrigin.getY();
-            // Intercardinals
-            if (Math.abs(offsetX) > 0 && Math.abs(offsetY) > 0) {
-                for (int i = 0; i < Math.abs(offsetX) + 1; i++) {
-                    int x = (int) (selectedOrigin.getX() + (i * Math.signum((offsetX))));
-                    int y = (int) (selectedOrigin.getY() + (i * Math.signum((offsetY))));
-                    guiBoard[x][y].addOrUpdateDisc(player.getColor());
-                }
-            } else { // Cardinals
-                // Origin -> Destination
-                for (int i = 0; i < Math.abs(offsetX) + 1; i++) {
-                    for (int j = 0; j < Math.abs(offsetY) + 1; j++) {
-                        int x = (int) (selectedOrigin.getX() + (i * Math.signum((offsetX))));
-                        int y = (int) (selectedOrigin.getY() + (j * Math.signum((offsetY))));
-                        guiBoard[x][y].addOrUpdateDisc(player.getColor());
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Returns the other player given one of the player fields
      */
@@ -528,23 +511,23 @@ public class GameController  {
     protected void gameOver() {
         boolean p1Victory = false;
         boolean tie = false;
-        if (countColor(og.getBoard(), og.getPlayerOne().getColor()) > countColor(og.getBoard(), og.getPlayerTwo().getColor())) {
+        if (og.getDiscCount(og.getPlayerOne().getColor()) > og.getDiscCount(og.getPlayerTwo().getColor())) {
             p1Victory = true;
-        } else if (countColor(og.getBoard(), og.getPlayerOne().getColor()) == countColor(og.getBoard(), og.getPlayerTwo().getColor())) {
+        } else if (og.getDiscCount(og.getPlayerOne().getColor()) == og.getDiscCount(og.getPlayerTwo().getColor())) {
             tie = true;
         }
         if (tie) {
             turnLabel.setText("🎉🎉GAME OVER!🎉🎉 \n Game Tied with scores: \n " +
-                    og.getPlayerOne().getColor() + ": " + countColor(og.getBoard(), og.getPlayerOne().getColor()) + " - " +
-                    og.getPlayerTwo().getColor() + ": " + countColor(og.getBoard(), og.getPlayerTwo().getColor()));
+                    og.getPlayerOne().getColor() + ": " + og.getDiscCount(og.getPlayerOne().getColor()) + " - " +
+                    og.getPlayerTwo().getColor() + ": " + og.getDiscCount(og.getPlayerTwo().getColor()));
         } else if (p1Victory) {
             turnLabel.setText("🎉🎉GAME OVER!🎉🎉 \n BLACK wins with scores: \n " +
-                    og.getPlayerOne().getColor() + ": " + countColor(og.getBoard(), og.getPlayerOne().getColor()) + " - " +
-                    og.getPlayerTwo().getColor() + ": " + countColor(og.getBoard(), og.getPlayerTwo().getColor()));
+                    og.getPlayerOne().getColor() + ": " + og.getDiscCount(og.getPlayerOne().getColor()) + " - " +
+                    og.getPlayerTwo().getColor() + ": " + og.getDiscCount(og.getPlayerTwo().getColor()));
         } else {
             turnLabel.setText("🎉🎉GAME OVER!🎉🎉 \n WHITE wins with scores: \n " +
-                    og.getPlayerOne().getColor() + ": " + countColor(og.getBoard(), og.getPlayerOne().getColor()) + " - " +
-                    og.getPlayerTwo().getColor() + ": " + countColor(og.getBoard(), og.getPlayerTwo().getColor()));
+                    og.getPlayerOne().getColor() + ": " + og.getDiscCount(og.getPlayerOne().getColor()) + " - " +
+                    og.getPlayerTwo().getColor() + ": " + og.getDiscCount(og.getPlayerTwo().getColor()));
         }
     }
 }
\ No newline at end of file
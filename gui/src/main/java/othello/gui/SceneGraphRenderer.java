@@ -0,0 +1,112 @@
+package othello.gui;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.OthelloGame;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Draws the board with one {@link GUISpace} per square, a Pane holding a Rectangle and a Circle.
+ * The 64 spaces are created once; a move only recolors the squares that changed.
+ */
+public class SceneGraphRenderer implements BoardRenderer {
+    private final Pane root = new Pane();
+    private final GUISpace[][] spaces = new GUISpace[OthelloGame.GAME_BOARD_SIZE][OthelloGame.GAME_BOARD_SIZE];
+    private final List<GUISpace> highlighted = new ArrayList<>();
+    private GUISpace hovered;
+    private Theme theme;
+
+    /**
+     * Creates the spaces of an empty board.
+     */
+    public SceneGraphRenderer() {
+        for (int x = 0; x < spaces.length; x++) {
+            for (int y = 0; y < spaces[x].length; y++) {
+                spaces[x][y] = new GUISpace(x, y, BoardSpace.SpaceType.EMPTY);
+                root.getChildren().add(spaces[x][y].getSquare());
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Node getNode() {
+        return root;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getSquareSize() {
+        return GUISpace.SQUARE_SIZE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTheme(Theme theme) {
+        this.theme = theme;
+        for (GUISpace[] column : spaces) {
+            for (GUISpace space : column) {
+                space.setTheme(theme);
+            }
+        }
+        // The theme resets every background, so put the highlights back
+        for (GUISpace space : highlighted) {
+            space.setBgColor(space == hovered ? HOVER_COLOR : MOVE_COLOR);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void render(BoardSpace[][] board) {
+        for (BoardSpace[] column : board) {
+            for (BoardSpace space : column) {
+                GUISpace guiSpace = spaces[space.getX()][space.getY()];
+                if (guiSpace.getType() != space.getType()) {
+                    guiSpace.addOrUpdateDisc(space.getType());
+                }
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void showMoves(Collection<BoardSpace> moves) {
+        clearMoves();
+        for (BoardSpace move : moves) {
+            GUISpace space = spaces[move.getX()][move.getY()];
+            space.setBgColor(MOVE_COLOR);
+            highlighted.add(space);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearMoves() {
+        for (GUISpace space : highlighted) {
+            space.setBgColor(theme.getBoardColor());
+        }
+        highlighted.clear();
+        hovered = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setHovered(BoardSpace move) {
+        GUISpace space = move == null ? null : spaces[move.getX()][move.getY()];
+        if (space == hovered) {
+            return;
+        }
+        // Only the square the mouse leaves and the one it enters are recolored
+        if (hovered != null) {
+            hovered.setBgColor(MOVE_COLOR);
+        }
+        hovered = space;
+        if (space != null) {
+            space.setBgColor(HOVER_COLOR);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package othello.gui;
+
+import javafx.application.Platform;
+import othello.gamelogic.BoardSpace;
+import othello.gamelogic.ComputerPlayer;
+import othello.gamelogic.Player;
+import othello.gamelogic.SearchListener;
+import othello.gamelogic.Strategy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs computer moves off the JavaFX application thread, so the window stays responsive while a strategy searches.
+ * Searches run one at a time on a background thread, on a copy of the board. The progress of each completed depth
+ * and the chosen move are posted back with {@link Platform#runLater(Runnable)}.
+ *
+ * <p>A search can be cancelled at any time: its strategy is asked to stop, and nothing it reports afterwards
+ * reaches the callbacks, including its move. Starting a search cancels the one before it.
+ * All methods must be called on the JavaFX application thread.
+ */
+public class SearchService {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "engine-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Search current;
+
+    /**
+     * One submitted search. Once cancelled, it never calls back again.
+     */
+    private static class Search {
+        private final Strategy strategy;
+        private volatile boolean cancelled;
+
+        private Search(Strategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+
+    /**
+     * Starts searching for a computer move in the background.
+     *
+     * @param player   the computer player to move
+     * @param opponent the other player
+     * @param board    the current board, copied before the search starts
+     * @param progress told the best move after every completed depth, on the JavaFX thread
+     * @param done     given the chosen move on the JavaFX thread, a space of the copied board
+     *                 (use its coordinates), or null if there is no legal move
+     */
+    public void start(ComputerPlayer player, Player opponent, BoardSpace[][] board,
+                      SearchListener progress, Consumer<BoardSpace> done) {
+        cancel();
+        BoardSpace[][] copy = new BoardSpace[board.length][];
+        for (int x = 0; x < board.length; x++) {
+            copy[x] = new BoardSpace[board[x].length];
+            for (int y = 0; y < board[x].length; y++) {
+                copy[x][y] = new BoardSpace(board[x][y]);
+            }
+        }
+
+        Search search = new Search(player.getStrategy());
+        current = search;
+        executor.execute(() -> {
+            if (search.cancelled) {
+                return;  // cancelled while waiting behind the previous search
+            }
+            // A stop() sent before the search starts would be cleared by it, so this search also checks its own flag
+            search.strategy.setStopCondition(() -> search.cancelled);
+            search.strategy.setSearchListener((depth, bestSquare, nodes) -> Platform.runLater(() -> {
+                if (!search.cancelled) {
+                    progress.depthCompleted(depth, bestSquare, nodes);
+                }
+            }));
+            BoardSpace move;
+            try {
+                move = player.chooseMove(copy, player, opponent);
+            } catch (RuntimeException e) {
+                // Rethrown on the JavaFX thread, where the uncaught exception handler reports it
+                Platform.runLater(() -> {
+                    throw new IllegalStateException("Search failed", e);
+                });
+                return;
+            } finally {
+                search.strategy.setSearchListener(null);
+                search.strategy.setStopCondition(null);
+            }
+            Platform.runLater(() -> {
+                if (!search.cancelled) {
+                    current = null;
+                    done.accept(move);
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns whether a search has been started and has neither finished nor been cancelled.
+     *
+     * @return true while waiting for a move
+     */
+    public boolean isSearching() {
+        return current != null;
+    }
+
+    /**
+     * Cancels the running search, if any. Its strategy is asked to stop, and its results are dropped.
+     * The search stops even if it has not started yet, since it checks its cancelled flag as well.
+     */
+    public void cancel() {
+        if (current != null) {
+            current.cancelled = true;
+            current.strategy.stop();
+            current = null;
+        }
+    }
+
+    /**
+     * Cancels the running search and stops the background thread. The service cannot be used afterwards.
+     */
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+}
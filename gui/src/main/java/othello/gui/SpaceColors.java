@@ -0,0 +1,31 @@
+package othello.gui;
+
+import javafx.scene.paint.Color;
+import othello.gamelogic.BoardSpace;
+
+/**
+ * Maps each {@link BoardSpace.SpaceType} to the color it is drawn with.
+ * Kept in the GUI so that the game logic can run without JavaFX.
+ */
+public final class SpaceColors {
+    private static final Color EMPTY = Color.GRAY;
+    private static final Color BLACK = Color.web("#393E46");
+    private static final Color WHITE = Color.web("#FAF6E9");
+
+    private SpaceColors() {
+    }
+
+    /**
+     * Returns the color associated with a space type.
+     *
+     * @param type the space type
+     * @return the fill color for discs of that type
+     */
+    public static Color fill(BoardSpace.SpaceType type) {
+        return switch (type) {
+            case BLACK -> BLACK;
+            case WHITE -> WHITE;
+            case EMPTY -> EMPTY;
+        };
+    }
+}
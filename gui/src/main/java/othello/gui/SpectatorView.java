@@ -0,0 +1,264 @@
+package othello.gui;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import othello.tournament.GameSnapshot;
+import othello.tournament.StrategySpec;
+import othello.tournament.Tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Shows many engine-versus-engine games at once, each on a small {@link CanvasRenderer} board in a grid.
+ * Every board plays one pairing of the strategies over and over, swapping colors after each game.
+ *
+ * <p>The games run headless on a fixed thread pool and never wait for the screen: after every move a game
+ * publishes an immutable {@link GameSnapshot} into its board's slot, replacing whatever was there.
+ * Once per frame, an {@link AnimationTimer} on the JavaFX thread takes the newest snapshot of each board
+ * that changed and draws it. Positions published between two frames are skipped, so the screen is never
+ * more than a frame behind the games however fast they play.
+ */
+public class SpectatorView {
+    private static final int FINAL_POSITION_FRAMES = 5;  // how long a final position stays up, in move delays
+
+    private final List<StrategySpec[]> pairings = new ArrayList<>();
+    private final Board[] boards;
+    private final ExecutorService pool;
+    private final AnimationTimer frameTimer;
+    private final BorderPane root = new BorderPane();
+    private final Label status = new Label();
+    private final AtomicInteger finishedGames = new AtomicInteger();
+    private int shownFinishedGames = -1;
+    private long seed = 1;
+    private int openingPlies = 4;
+    private long moveDelayMillis = 200;
+    private long startNanos;
+
+    /**
+     * One board of the grid. The game thread writes {@code latest}; everything else belongs to the JavaFX thread.
+     */
+    private static class Board {
+        private final CanvasRenderer renderer;
+        private final Label label = new Label();
+        private final AtomicReference<Published> latest = new AtomicReference<>();
+        private Published shown;
+
+        private Board(double squareSize) {
+            renderer = new CanvasRenderer(squareSize);
+        }
+    }
+
+    /**
+     * A snapshot together with the game it belongs to, as published by a game thread.
+     */
+    private static final class Published {
+        private final StrategySpec black;
+        private final StrategySpec white;
+        private final int game;
+        private final GameSnapshot snapshot;
+
+        private Published(StrategySpec black, StrategySpec white, int game, GameSnapshot snapshot) {
+            this.black = black;
+            this.white = white;
+            this.game = game;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Builds the view. Nothing runs until {@link #start()}.
+     *
+     * @param specs      the strategies, at least two; every pair of them gets boards in turn
+     * @param boardCount the number of boards, at least 1
+     * @param threads    the number of games played at the same time, at least 1
+     * @param squareSize the size of a board square in pixels
+     */
+    public SpectatorView(List<StrategySpec> specs, int boardCount, int threads, double squareSize) {
+        if (specs.size() < 2) {
+            throw new IllegalArgumentException("The spectator view needs at least two strategies");
+        }
+        if (boardCount < 1 || threads < 1) {
+            throw new IllegalArgumentException("Boards and threads must be at least 1: " + boardCount + ", " + threads);
+        }
+        for (int i = 0; i < specs.size(); i++) {
+            for (int j = i + 1; j < specs.size(); j++) {
+                pairings.add(new StrategySpec[] {specs.get(i), specs.get(j)});
+            }
+        }
+
+        GridPane grid = new GridPane();
+        grid.setHgap(12);
+        grid.setVgap(12);
+        grid.setPadding(new Insets(12));
+        int columns = (int) Math.ceil(Math.sqrt(boardCount));
+        boards = new Board[boardCount];
+        for (int i = 0; i < boardCount; i++) {
+            boards[i] = new Board(squareSize);
+            boards[i].renderer.setTheme(new LightTheme());
+            VBox cell = new VBox(4, boards[i].renderer.getNode(), boards[i].label);
+            cell.setAlignment(Pos.TOP_CENTER);
+            grid.add(cell, i % columns, i / columns);
+        }
+        root.setTop(status);
+        BorderPane.setMargin(status, new Insets(8, 12, 0, 12));
+        root.setCenter(new ScrollPane(grid));
+
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "spectator-game");
+            thread.setDaemon(true);
+            return thread;
+        });
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drawFrame(now);
+            }
+        };
+    }
+
+    /**
+     * Sets the seed of the random opening moves. Defaults to 1.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of random moves each game starts with. Defaults to 4.
+     *
+     * @param plies the number of random moves, at least 0
+     */
+    public void setOpeningPlies(int plies) {
+        if (plies < 0) {
+            throw new IllegalArgumentException("Opening plies must be at least 0: " + plies);
+        }
+        this.openingPlies = plies;
+    }
+
+    /**
+     * Sets the pause after every move, so fast engines can be followed by eye. Defaults to 200.
+     * The pause is taken on the game thread; 0 plays at full speed and the screen shows what it can.
+     *
+     * @param millis the pause in milliseconds, at least 0
+     */
+    public void setMoveDelayMillis(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Move delay must be at least 0: " + millis);
+        }
+        this.moveDelayMillis = millis;
+    }
+
+    /**
+     * @return the view, to be put in a scene
+     */
+    public Parent getNode() {
+        return root;
+    }
+
+    /**
+     * Starts the games and the frame timer. Must be called on the JavaFX thread.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        for (int i = 0; i < boards.length; i++) {
+            int board = i;
+            pool.execute(() -> playGames(board, 0));
+        }
+        frameTimer.start();
+    }
+
+    /**
+     * Stops the frame timer and abandons the games. Must be called on the JavaFX thread.
+     */
+    public void stop() {
+        frameTimer.stop();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Plays one game on a board, then queues the board's next game behind the other boards' games.
+     *
+     * @param board the board index
+     * @param game  the index of the game on that board
+     */
+    private void playGames(int board, int game) {
+        StrategySpec[] pairing = pairings.get(board % pairings.size());
+        StrategySpec black = pairing[game % 2];
+        StrategySpec white = pairing[1 - game % 2];
+        long openingSeed = new SplittableRandom(seed + board * 1_000_003L + game).nextLong();
+        try {
+            Tournament.playGame(board % pairings.size(), game, black, white, new int[0], openingSeed, openingPlies,
+                    snapshot -> {
+                        boards[board].latest.set(new Published(black, white, game, snapshot));
+                        pause(snapshot.isFinished() ? FINAL_POSITION_FRAMES * moveDelayMillis : moveDelayMillis);
+                    });
+            finishedGames.incrementAndGet();
+            pool.execute(() -> playGames(board, game + 1));
+        } catch (CancellationException | RejectedExecutionException e) {
+            // the view is closing
+        }
+    }
+
+    /**
+     * Sleeps on a game thread, giving the game up if the view is closing.
+     *
+     * @param millis the time to sleep
+     */
+    private static void pause(long millis) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+    }
+
+    /**
+     * Draws the newest position of every board that changed since the last frame.
+     *
+     * @param now the time of the frame, from System.nanoTime()
+     */
+    private void drawFrame(long now) {
+        for (Board board : boards) {
+            Published published = board.latest.get();
+            if (published == null || published == board.shown) {
+                continue;
+            }
+            board.shown = published;
+            GameSnapshot snapshot = published.snapshot;
+            board.renderer.render(snapshot.getBlack(), snapshot.getWhite());
+            board.label.setText(published.black + " vs " + published.white + ", game " + (published.game + 1) + "\n"
+                    + snapshot.getBlackDiscs() + " - " + snapshot.getWhiteDiscs()
+                    + (snapshot.isFinished() ? ", final" : ", move " + snapshot.getMoves()));
+        }
+        int finished = finishedGames.get();
+        if (finished != shownFinishedGames) {
+            shownFinishedGames = finished;
+            double seconds = Math.max((now - startNanos) / 1e9, 1e-9);
+            status.setText(String.format("%d boards, %d games finished, %.2f games/s",
+                    boards.length, finished, finished / seconds));
+        }
+    }
+}